@@ -0,0 +1,237 @@
+package com.project.incident.repository;
+
+import com.project.incident.model.Incident;
+import com.project.incident.specification.IncidentFilter;
+import com.project.incident.specification.IncidentSort;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query construction and planning cost of the incident listing: the Criteria tree the listing used
+ * to build per request ({@code criteria}) against the precompiled JPQL templates ({@code templates}).
+ * <p>
+ * Both build the page and count queries for the same mix of random filter and sort requests. Without
+ * a database this covers building the query and Hibernate's HQL interpretation. With
+ * {@code -p jdbcUrl=...} (plus {@code username}/{@code password}) each query is also executed, which
+ * adds SQL translation and PostgreSQL parsing/planning. Hibernate statistics are enabled, and the
+ * query plan cache hits and misses of each run are printed at the end of the trial.
+ * <p>
+ * Run with {@code ./gradlew jmh}, e.g. {@code ./gradlew jmh -PjmhArgs="IncidentQueryBenchmark -p jdbcUrl=..."}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IncidentQueryBenchmark {
+
+    private static final int REQUESTS = 1024;
+    private static final String[] SORT_INPUTS = {"title", "severity", "status", "createdAt", "owner", "service"};
+    private static final String[] SEARCHES = {null, "timeout", "DB", "latency"};
+    private static final String[] SERVICES = {null, "payments", "Search", "auth"};
+
+    @Param("")
+    public String jdbcUrl;
+
+    @Param("")
+    public String username;
+
+    @Param("")
+    public String password;
+
+    private SessionFactory sessionFactory;
+    private Session session;
+    private Request[] requests;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StandardServiceRegistryBuilder registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+                        CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .applySetting(AvailableSettings.GENERATE_STATISTICS, true)
+                .applySetting(AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, 2048);
+        if (jdbcUrl.isEmpty()) {
+            // Build the metamodel without ever opening a connection
+            registry.applySetting(AvailableSettings.ALLOW_METADATA_ON_BOOT, false);
+        } else {
+            registry.applySetting(AvailableSettings.JAKARTA_JDBC_URL, jdbcUrl)
+                    .applySetting(AvailableSettings.JAKARTA_JDBC_USER, username)
+                    .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, password);
+        }
+
+        sessionFactory = new MetadataSources(registry.build())
+                .addAnnotatedClass(Incident.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        session = sessionFactory.openSession();
+        requests = requests();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Statistics statistics = sessionFactory.getStatistics();
+        System.out.printf("%nquery plan cache: %d hits, %d misses; %d queries executed%n",
+                statistics.getQueryPlanCacheHitCount(),
+                statistics.getQueryPlanCacheMissCount(),
+                statistics.getQueryExecutionCount());
+        session.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void criteria(Blackhole blackhole) {
+        Request request = nextRequest();
+        CriteriaBuilder cb = session.getCriteriaBuilder();
+
+        CriteriaQuery<Incident> select = cb.createQuery(Incident.class);
+        Root<Incident> root = select.from(Incident.class);
+        select.where(predicates(cb, root, request));
+        Sort.Direction direction = IncidentSort.direction(request.sortDir());
+        String field = IncidentSort.mapSortField(request.sortBy());
+        select.orderBy(direction.isAscending() ? cb.asc(root.get(field)) : cb.desc(root.get(field)));
+        TypedQuery<Incident> selectQuery = session.createQuery(select);
+        selectQuery.setFirstResult(0);
+        selectQuery.setMaxResults(20);
+
+        CriteriaQuery<Long> count = cb.createQuery(Long.class);
+        Root<Incident> countRoot = count.from(Incident.class);
+        count.select(cb.count(countRoot)).where(predicates(cb, countRoot, request));
+        TypedQuery<Long> countQuery = session.createQuery(count);
+
+        execute(selectQuery, countQuery, blackhole);
+    }
+
+    @Benchmark
+    public void templates(Blackhole blackhole) {
+        Request request = nextRequest();
+        IncidentFilter filter = IncidentFilter.of(
+                request.search(), request.service(), request.severities(), request.statuses());
+        String field = IncidentSort.mapSortField(request.sortBy());
+
+        TypedQuery<Incident> selectQuery = session.createQuery(IncidentQueryTemplates.select(
+                filter.getShape(), field, IncidentSort.direction(request.sortDir()), false), Incident.class);
+        IncidentRepositoryCustomImpl.bind(selectQuery, filter);
+        selectQuery.setFirstResult(0);
+        selectQuery.setMaxResults(20);
+
+        TypedQuery<Long> countQuery = session.createQuery(IncidentQueryTemplates.count(filter.getShape()), Long.class);
+        IncidentRepositoryCustomImpl.bind(countQuery, filter);
+
+        execute(selectQuery, countQuery, blackhole);
+    }
+
+    private void execute(TypedQuery<Incident> selectQuery, TypedQuery<Long> countQuery, Blackhole blackhole) {
+        if (jdbcUrl.isEmpty()) {
+            blackhole.consume(selectQuery);
+            blackhole.consume(countQuery);
+            return;
+        }
+        blackhole.consume(selectQuery.getResultList());
+        blackhole.consume(countQuery.getSingleResult());
+        session.clear();
+    }
+
+    private Request nextRequest() {
+        Request request = requests[next];
+        next = (next + 1) % requests.length;
+        return request;
+    }
+
+    // Same predicates as the former IncidentSpecification.withFilters
+    private static Predicate[] predicates(CriteriaBuilder cb, Root<Incident> root, Request request) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (request.search() != null && !request.search().trim().isEmpty()) {
+            String pattern = "%" + request.search().toLowerCase() + "%";
+            predicates.add(cb.or(
+                    cb.like(cb.lower(root.get("title")), pattern),
+                    cb.like(cb.lower(root.get("service")), pattern),
+                    cb.like(cb.lower(root.get("owner")), pattern),
+                    cb.like(cb.lower(root.get("summary")), pattern)
+            ));
+        }
+        if (request.service() != null && !request.service().trim().isEmpty()) {
+            predicates.add(cb.equal(cb.lower(root.get("service")), request.service().toLowerCase()));
+        }
+        if (request.severities() != null && !request.severities().isEmpty()) {
+            predicates.add(root.get("severity").in(request.severities()));
+        }
+        if (request.statuses() != null && !request.statuses().isEmpty()) {
+            predicates.add(root.get("status").in(request.statuses()));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    // A fixed, seeded mix of filters, list sizes and sort options shared by both benchmarks
+    private static Request[] requests() {
+        SplittableRandom random = new SplittableRandom(27);
+        Request[] requests = new Request[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            requests[i] = new Request(
+                    SEARCHES[random.nextInt(SEARCHES.length)],
+                    SERVICES[random.nextInt(SERVICES.length)],
+                    subset(Incident.Severity.values(), random),
+                    subset(Incident.Status.values(), random),
+                    SORT_INPUTS[random.nextInt(SORT_INPUTS.length)],
+                    random.nextBoolean() ? "asc" : "desc"
+            );
+        }
+        return requests;
+    }
+
+    private static <E> List<E> subset(E[] values, SplittableRandom random) {
+        List<E> shuffled = new ArrayList<>(Arrays.asList(values));
+        for (int i = shuffled.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            E swap = shuffled.get(i);
+            shuffled.set(i, shuffled.get(j));
+            shuffled.set(j, swap);
+        }
+        int size = random.nextInt(values.length + 1);
+        return size == 0 ? null : List.copyOf(shuffled.subList(0, size));
+    }
+
+    private record Request(
+            String search,
+            String service,
+            List<Incident.Severity> severities,
+            List<Incident.Status> statuses,
+            String sortBy,
+            String sortDir
+    ) {
+    }
+}
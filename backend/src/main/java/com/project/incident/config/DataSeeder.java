@@ -1,16 +1,24 @@
 package com.project.incident.config;
 
 import com.project.incident.model.Incident;
+import com.project.incident.model.IncidentTransition;
 import com.project.incident.repository.IncidentRepository;
+import com.project.incident.repository.IncidentTransitionRepository;
+import com.project.incident.sharding.ShardContext;
+import com.project.incident.sharding.ShardRouter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -18,6 +26,8 @@ import java.util.Random;
 public class DataSeeder implements CommandLineRunner {
 
     private final IncidentRepository incidentRepository;
+    private final IncidentTransitionRepository transitionRepository;
+    private final ObjectProvider<ShardRouter> shardRouter;
 
     private static final String[] SERVICES = {
             "Auth", "Payments", "Backend", "Frontend", "Database", 
@@ -61,6 +71,12 @@ public class DataSeeder implements CommandLineRunner {
 
     @Override
     public void run(String... args) {
+        ShardRouter router = shardRouter.getIfAvailable();
+        if (router != null) {
+            seedShards(router);
+            return;
+        }
+
         if (incidentRepository.count() > 0) {
             log.info("Database already seeded. Skipping data seeding.");
             return;
@@ -69,9 +85,31 @@ public class DataSeeder implements CommandLineRunner {
         log.info("Starting database seeding...");
         List<Incident> incidents = generateIncidents(200);
         incidentRepository.saveAll(incidents);
+        transitionRepository.saveAll(generateTransitions(incidents));
         log.info("Successfully seeded {} incidents into the database.", incidents.size());
     }
 
+    private void seedShards(ShardRouter router) {
+        long existing = 0;
+        for (int shard = 0; shard < router.getShardCount(); shard++) {
+            existing += ShardContext.callOn(shard, incidentRepository::count);
+        }
+        if (existing > 0) {
+            log.info("Shards already seeded. Skipping data seeding.");
+            return;
+        }
+
+        log.info("Starting seeding across {} shards...", router.getShardCount());
+        List<Incident> incidents = generateIncidents(200);
+        Map<Integer, List<Incident>> byShard = incidents.stream()
+                .collect(Collectors.groupingBy(incident -> router.shardForService(incident.getService())));
+        byShard.forEach((shard, shardIncidents) -> ShardContext.callOn(shard, () -> {
+            incidentRepository.saveAll(shardIncidents);
+            return transitionRepository.saveAll(generateTransitions(shardIncidents));
+        }));
+        log.info("Successfully seeded {} incidents across {} shards.", incidents.size(), byShard.size());
+    }
+
     private List<Incident> generateIncidents(int count) {
         List<Incident> incidents = new ArrayList<>();
         Random random = new Random();
@@ -103,5 +141,57 @@ public class DataSeeder implements CommandLineRunner {
 
         return incidents;
     }
+
+    private List<IncidentTransition> generateTransitions(List<Incident> incidents) {
+        List<IncidentTransition> transitions = new ArrayList<>();
+        Random random = new Random();
+
+        for (Incident incident : incidents) {
+            LocalDateTime createdAt = incident.getCreatedAt();
+            LocalDateTime updatedAt = incident.getUpdatedAt();
+
+            transitions.add(transition(incident, IncidentTransition.Field.SEVERITY, null,
+                    incident.getSeverity().name(), createdAt));
+            transitions.add(transition(incident, IncidentTransition.Field.OWNER, null,
+                    incident.getOwner(), createdAt));
+            transitions.add(transition(incident, IncidentTransition.Field.STATUS, null,
+                    Incident.Status.OPEN.name(), createdAt));
+
+            if (incident.getStatus() == Incident.Status.OPEN) {
+                continue;
+            }
+
+            // Mitigated somewhere between creation and the last update
+            long minutes = Duration.between(createdAt, updatedAt).toMinutes();
+            LocalDateTime mitigatedAt = incident.getStatus() == Incident.Status.MITIGATED
+                    ? updatedAt
+                    : createdAt.plusMinutes(minutes == 0 ? 0 : random.nextLong(minutes + 1));
+            transitions.add(transition(incident, IncidentTransition.Field.STATUS,
+                    Incident.Status.OPEN.name(), Incident.Status.MITIGATED.name(), mitigatedAt));
+
+            if (incident.getStatus() == Incident.Status.RESOLVED) {
+                transitions.add(transition(incident, IncidentTransition.Field.STATUS,
+                        Incident.Status.MITIGATED.name(), Incident.Status.RESOLVED.name(), updatedAt));
+            }
+        }
+
+        return transitions;
+    }
+
+    private IncidentTransition transition(
+            Incident incident,
+            IncidentTransition.Field field,
+            String oldValue,
+            String newValue,
+            LocalDateTime changedAt
+    ) {
+        return IncidentTransition.builder()
+                .incidentId(incident.getId())
+                .field(field)
+                .oldValue(oldValue)
+                .newValue(newValue)
+                .changedAt(changedAt)
+                .build();
+    }
 }
 
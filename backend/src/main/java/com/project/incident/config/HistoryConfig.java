@@ -0,0 +1,12 @@
+package com.project.incident.config;
+
+import com.project.incident.history.HistoryProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(HistoryProperties.class)
+public class HistoryConfig {
+}
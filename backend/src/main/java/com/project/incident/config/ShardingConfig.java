@@ -0,0 +1,82 @@
+package com.project.incident.config;
+
+import com.project.incident.sharding.ShardLayoutMigrator;
+import com.project.incident.sharding.ShardRouter;
+import com.project.incident.sharding.ShardRoutingDataSource;
+import com.project.incident.sharding.ShardSchemaInitializer;
+import com.project.incident.sharding.ShardingProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Optional sharding of incidents by service across several PostgreSQL databases.
+ * Replaces the single auto-configured DataSource with one that routes per transaction.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "incident.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties) {
+        return new ShardRouter(properties);
+    }
+
+    @Bean
+    @Primary
+    public ShardRoutingDataSource dataSource(ShardingProperties properties, Environment environment) {
+        // Every shard pool inherits spring.datasource.hikari settings (pool size, driver properties, ...)
+        HikariConfig template = Binder.get(environment)
+                .bind("spring.datasource.hikari", HikariConfig.class)
+                .orElseGet(HikariConfig::new);
+
+        List<ShardingProperties.Shard> shards = properties.getShards();
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            ShardingProperties.Shard shard = shards.get(i);
+            HikariConfig config = new HikariConfig();
+            template.copyStateTo(config);
+            config.setPoolName("incident-" + shard.getName());
+            config.setJdbcUrl(shard.getUrl());
+            config.setUsername(shard.getUsername());
+            config.setPassword(shard.getPassword());
+            targets.put(i, new HikariDataSource(config));
+        }
+
+        ShardRoutingDataSource dataSource = new ShardRoutingDataSource();
+        dataSource.setTargetDataSources(targets);
+        dataSource.setDefaultTargetDataSource(targets.get(0));
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto", havingValue = "update")
+    public ShardSchemaInitializer shardSchemaInitializer(
+            ShardRoutingDataSource dataSource,
+            EntityManagerFactory entityManagerFactory
+    ) {
+        return new ShardSchemaInitializer(dataSource, entityManagerFactory);
+    }
+
+    // Declared after shardSchemaInitializer so every shard has its schema before rows are checked
+    @Bean
+    public ShardLayoutMigrator shardLayoutMigrator(
+            ShardRoutingDataSource dataSource,
+            ShardRouter shardRouter,
+            ShardingProperties properties
+    ) {
+        return new ShardLayoutMigrator(dataSource, shardRouter, properties);
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.incident.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC writes reactive (e.g. NDJSON {@code Flux}) responses with blocking sends on its async
+ * executor. Boot defaults that to the small shared {@code applicationTaskExecutor}, where a few slow
+ * stream consumers would stall every other async request, so a virtual thread is used per write instead.
+ * Runs after Boot's own MVC configurer, so this executor takes precedence.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-async-");
+        executor.setVirtualThreads(true);
+        configurer.setTaskExecutor(executor);
+    }
+}
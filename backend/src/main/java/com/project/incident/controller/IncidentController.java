@@ -2,7 +2,10 @@ package com.project.incident.controller;
 
 import com.project.incident.dto.IncidentRequest;
 import com.project.incident.dto.IncidentResponse;
+import com.project.incident.dto.IncidentTransitionResponse;
 import com.project.incident.dto.PageResponse;
+import com.project.incident.dto.ResolutionMetricsResponse;
+import com.project.incident.dto.SimilarIncidentResponse;
 import com.project.incident.dto.UpdateIncidentRequest;
 import com.project.incident.model.Incident;
 import com.project.incident.service.IncidentService;
@@ -83,4 +86,27 @@ public class IncidentController {
         IncidentResponse response = incidentService.updateIncident(id, request);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<IncidentTransitionResponse>> getIncidentHistory(@PathVariable UUID id) {
+        List<IncidentTransitionResponse> response = incidentService.getIncidentHistory(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SimilarIncidentResponse>> getSimilarIncidents(
+            @PathVariable UUID id,
+            @RequestParam(required = false, defaultValue = "5") int limit
+    ) {
+        List<SimilarIncidentResponse> response = incidentService.getSimilarIncidents(id, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/metrics/resolution")
+    public ResponseEntity<List<ResolutionMetricsResponse>> getResolutionMetrics(
+            @RequestParam(required = false) String service
+    ) {
+        List<ResolutionMetricsResponse> response = incidentService.getResolutionMetrics(service);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,102 @@
+package com.project.incident.controller;
+
+import com.project.incident.dto.IncidentResponse;
+import com.project.incident.dto.PageResponse;
+import com.project.incident.model.Incident;
+import com.project.incident.service.ReactiveIncidentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Read-only API backed by R2DBC for high fan-out consumers (wallboards, bots).
+ * <p>
+ * Served by Spring MVC rather than WebFlux: requests complete asynchronously, so no Tomcat request
+ * thread or JDBC connection is held while rows are read. Limits of this setup:
+ * <ul>
+ *     <li>Each stream element is written with a blocking send on a virtual thread (see
+ *     {@link com.project.incident.config.WebMvcConfig}), so a slow consumer parks a virtual thread
+ *     rather than a pooled one.</li>
+ *     <li>An open stream holds one R2DBC connection until it completes, so concurrent streams beyond
+ *     {@code spring.r2dbc.pool.max-size} wait for a connection.</li>
+ *     <li>Streams are cut off after {@code spring.mvc.async.request-timeout}; clients reading for longer
+ *     must reconnect.</li>
+ * </ul>
+ * Not registered when sharding is enabled: it reads the single {@code spring.r2dbc} database, which
+ * would only hold part of the incidents.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "incident.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+@RequestMapping("/api/reactive/incidents")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ReactiveIncidentController {
+
+    private final ReactiveIncidentService reactiveIncidentService;
+
+    @GetMapping
+    public Mono<PageResponse<IncidentResponse>> getIncidents(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String service,
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false, defaultValue = "desc") String sortDir,
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "10") int size
+    ) {
+        return reactiveIncidentService.getIncidents(
+                search, service, parseSeverities(severity), parseStatuses(status), sortBy, sortDir, page, size
+        );
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<IncidentResponse> streamIncidents(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String service,
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false, defaultValue = "desc") String sortDir,
+            @RequestParam(required = false, defaultValue = "0") int limit
+    ) {
+        return reactiveIncidentService.streamIncidents(
+                search, service, parseSeverities(severity), parseStatuses(status), sortBy, sortDir, limit
+        );
+    }
+
+    @GetMapping("/{id}")
+    public Mono<IncidentResponse> getIncidentById(@PathVariable UUID id) {
+        return reactiveIncidentService.getIncidentById(id);
+    }
+
+    private List<Incident.Severity> parseSeverities(String severity) {
+        if (severity == null || severity.trim().isEmpty()) {
+            return null;
+        }
+        return Arrays.stream(severity.split(","))
+                .map(String::trim)
+                .map(Incident.Severity::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    private List<Incident.Status> parseStatuses(String status) {
+        if (status == null || status.trim().isEmpty()) {
+            return null;
+        }
+        return Arrays.stream(status.split(","))
+                .map(String::trim)
+                .map(Incident.Status::valueOf)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.incident.dto;
+
+import com.project.incident.model.IncidentTransition;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentTransitionResponse {
+
+    private UUID id;
+    private UUID incidentId;
+    private IncidentTransition.Field field;
+    private String oldValue;
+    private String newValue;
+    private LocalDateTime changedAt;
+}
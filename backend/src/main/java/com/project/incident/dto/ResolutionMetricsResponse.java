@@ -0,0 +1,27 @@
+package com.project.incident.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResolutionMetricsResponse {
+
+    private String service;
+
+    // Time to mitigate, in seconds from creation
+    private long mitigatedCount;
+    private Double mttmP50;
+    private Double mttmP90;
+    private Double mttmP99;
+
+    // Time to resolve, in seconds from creation
+    private long resolvedCount;
+    private Double mttrP50;
+    private Double mttrP90;
+    private Double mttrP99;
+}
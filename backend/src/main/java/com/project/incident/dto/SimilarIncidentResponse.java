@@ -0,0 +1,27 @@
+package com.project.incident.dto;
+
+import com.project.incident.model.Incident;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarIncidentResponse {
+
+    private UUID id;
+    private String title;
+    private String service;
+    private Incident.Severity severity;
+    private Incident.Status status;
+    private LocalDateTime createdAt;
+
+    // Estimated Jaccard similarity of title and summary, from 0 to 1
+    private double similarity;
+}
@@ -0,0 +1,13 @@
+package com.project.incident.exception;
+
+import java.util.UUID;
+
+/**
+ * Thrown when an update would move an incident to a service that lives on another shard.
+ */
+public class CrossShardMoveException extends RuntimeException {
+
+    public CrossShardMoveException(UUID id, String service) {
+        super("Cannot move incident " + id + " to service " + service + " on another shard");
+    }
+}
@@ -0,0 +1,10 @@
+package com.project.incident.exception;
+
+import java.util.UUID;
+
+public class IncidentNotFoundException extends RuntimeException {
+
+    public IncidentNotFoundException(UUID id) {
+        super("Incident not found with id: " + id);
+    }
+}
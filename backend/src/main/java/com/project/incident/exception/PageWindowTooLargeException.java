@@ -0,0 +1,12 @@
+package com.project.incident.exception;
+
+/**
+ * Thrown when a listing merged across shards would need more rows per shard than allowed.
+ */
+public class PageWindowTooLargeException extends RuntimeException {
+
+    public PageWindowTooLargeException(long window, int maxWindow) {
+        super("Page reaches row " + window + ", beyond the " + maxWindow
+                + " rows available without a service filter; filter by service or use a smaller page");
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.incident.history;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "incident.history")
+public class HistoryProperties {
+
+    private WriteMode writeMode = WriteMode.WRITE_BEHIND;
+
+    // Upper bound on transitions held in memory, and so on what a crash can lose
+    private int bufferCapacity = 10_000;
+
+    private int batchSize = 500;
+
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    // Failed flushes are retried after flush-interval, doubling up to this delay
+    private Duration maxRetryBackoff = Duration.ofSeconds(30);
+
+    public enum WriteMode {
+        // Buffered after commit and flushed in batches by a background task
+        WRITE_BEHIND,
+        // Written in the same transaction as the incident change
+        TRANSACTIONAL
+    }
+}
@@ -0,0 +1,186 @@
+package com.project.incident.history;
+
+import com.project.incident.model.IncidentTransition;
+import com.project.incident.repository.IncidentTransitionRepository;
+import com.project.incident.sharding.ShardContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Persists incident transitions, either in the caller's transaction or through a bounded
+ * write-behind buffer.
+ * <p>
+ * In write-behind mode transitions are queued only after the incident change commits and are
+ * flushed in batches off the request thread. When the buffer is full the caller writes its own
+ * transitions in a new transaction instead of dropping them. A failed flush puts its rows back in
+ * the buffer and retries with exponential backoff, so transitions are only lost when they no longer
+ * fit in the buffer: at most {@code buffer-capacity} on a crash, or whatever exceeds it during a
+ * database outage.
+ */
+@Component
+@Slf4j
+public class IncidentHistoryRecorder {
+
+    private final IncidentTransitionRepository transitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final HistoryProperties properties;
+    private final BlockingQueue<Pending> buffer;
+
+    // Guarded by this: the scheduled flush and the shutdown drain can run on different threads
+    private long retryBackoffNanos;
+    private long retryAtNanos;
+
+    public IncidentHistoryRecorder(
+            IncidentTransitionRepository transitionRepository,
+            PlatformTransactionManager transactionManager,
+            HistoryProperties properties
+    ) {
+        this.transitionRepository = transitionRepository;
+        // Writes may run in afterCommit, where the request's transaction is finished but still bound
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+    }
+
+    public void record(List<IncidentTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+
+        if (properties.getWriteMode() == HistoryProperties.WriteMode.TRANSACTIONAL) {
+            transitionRepository.saveAll(transitions);
+            return;
+        }
+
+        // Remember the shard now; the flush runs on another thread
+        Integer shard = ShardContext.current();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(shard, transitions);
+                }
+            });
+        } else {
+            enqueue(shard, transitions);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${incident.history.flush-interval:200ms}")
+    public synchronized void flush() {
+        if (retryBackoffNanos > 0 && System.nanoTime() - retryAtNanos < 0) {
+            return;
+        }
+        drain();
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        drain();
+    }
+
+    int pending() {
+        return buffer.size();
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(properties.getBatchSize());
+        while (buffer.drainTo(batch, properties.getBatchSize()) > 0) {
+            Map<Integer, List<IncidentTransition>> byShard = batch.stream()
+                    .collect(Collectors.groupingBy(
+                            pending -> pending.shard() == null ? -1 : pending.shard(),
+                            Collectors.mapping(Pending::transition, Collectors.toList())
+                    ));
+            batch.clear();
+
+            boolean failed = false;
+            for (Map.Entry<Integer, List<IncidentTransition>> entry : byShard.entrySet()) {
+                if (!write(entry.getKey(), entry.getValue())) {
+                    requeue(entry.getKey(), entry.getValue());
+                    failed = true;
+                }
+            }
+
+            // Stop draining so the requeued rows are not retried straight away
+            if (failed) {
+                backOff();
+                return;
+            }
+        }
+        retryBackoffNanos = 0;
+    }
+
+    private void backOff() {
+        long initial = properties.getFlushInterval().toNanos();
+        long max = properties.getMaxRetryBackoff().toNanos();
+        retryBackoffNanos = retryBackoffNanos == 0 ? initial : Math.min(retryBackoffNanos * 2, max);
+        retryAtNanos = System.nanoTime() + retryBackoffNanos;
+        log.warn("Retrying history flush in {} ms, {} transitions buffered",
+                retryBackoffNanos / 1_000_000, buffer.size());
+    }
+
+    private void enqueue(Integer shard, List<IncidentTransition> transitions) {
+        List<IncidentTransition> overflow = new ArrayList<>();
+        for (IncidentTransition transition : transitions) {
+            if (!buffer.offer(new Pending(shard, transition))) {
+                overflow.add(transition);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            log.warn("History buffer full, writing {} transitions synchronously", overflow.size());
+            int target = shard == null ? -1 : shard;
+            if (!write(target, overflow)) {
+                requeue(target, overflow);
+            }
+        }
+    }
+
+    private boolean write(int shard, List<IncidentTransition> transitions) {
+        try {
+            if (shard < 0) {
+                transactionTemplate.executeWithoutResult(status -> transitionRepository.saveAll(transitions));
+            } else {
+                ShardContext.callOn(shard, () -> transactionTemplate.execute(status ->
+                        transitionRepository.saveAll(transitions)));
+            }
+            return true;
+        } catch (RuntimeException ex) {
+            log.error("Failed to write {} incident transitions: {}", transitions.size(), ex.getMessage(), ex);
+            return false;
+        }
+    }
+
+    // Keeps as many failed rows as still fit; only rows beyond the buffer capacity are lost
+    private void requeue(int shard, List<IncidentTransition> transitions) {
+        Integer target = shard < 0 ? null : shard;
+        int lost = 0;
+        for (IncidentTransition transition : transitions) {
+            // The rolled-back insert may have assigned an id; clear it so the retry persists a new row
+            transition.setId(null);
+            if (!buffer.offer(new Pending(target, transition))) {
+                lost++;
+            }
+        }
+        if (lost > 0) {
+            log.error("History buffer full, dropped {} incident transitions", lost);
+        }
+    }
+
+    private record Pending(Integer shard, IncidentTransition transition) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.incident.model;
 
+import com.project.incident.sharding.ShardAwareUuidGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -27,7 +28,7 @@ public class Incident {
 
     @Id
     @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @GenericGenerator(name = "UUID", type = ShardAwareUuidGenerator.class)
     @Column(updatable = false, nullable = false)
     private UUID id;
 
@@ -0,0 +1,53 @@
+package com.project.incident.model;
+
+import com.project.incident.sharding.ShardAwareUuidGenerator;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Append-only record of a change to an incident's status, severity or owner.
+ */
+@Entity
+@Table(name = "incident_transitions", schema = "incident", indexes = {
+    @Index(name = "idx_transition_incident", columnList = "incident_id, changed_at"),
+    @Index(name = "idx_transition_field", columnList = "field, new_value")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentTransition {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", type = ShardAwareUuidGenerator.class)
+    @Column(updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "incident_id", nullable = false, updatable = false)
+    private UUID incidentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private Field field;
+
+    @Column(name = "old_value", updatable = false)
+    private String oldValue;
+
+    @Column(name = "new_value", updatable = false)
+    private String newValue;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    public enum Field {
+        STATUS, SEVERITY, OWNER
+    }
+}
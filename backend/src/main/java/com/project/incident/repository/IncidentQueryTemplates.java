@@ -0,0 +1,112 @@
+package com.project.incident.repository;
+
+import com.project.incident.model.Incident;
+import com.project.incident.specification.IncidentFilter;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precomputed JPQL for every filter shape and sort option.
+ * <p>
+ * Each query string is built once, so repeated requests hand Hibernate an identical string and hit its
+ * query plan cache, and the generated SQL is identical too, so PostgreSQL can reuse its server-side
+ * prepared statement. Enum filters always bind one parameter per constant (padding with repeats),
+ * which keeps the {@code IN} list arity fixed regardless of how many values were selected.
+ * <p>
+ * A second set of templates sorts text columns by code point ({@code ucs_basic}) and breaks ties on
+ * {@code id}. Sharded listings use it so every shard returns rows in the order the in-memory merge expects.
+ */
+final class IncidentQueryTemplates {
+
+    static final int SEVERITY_ARITY = Incident.Severity.values().length;
+    static final int STATUS_ARITY = Incident.Status.values().length;
+
+    private static final List<String> SORT_FIELDS =
+            List.of("title", "severity", "status", "createdAt", "owner", "service");
+    private static final List<String> TEXT_FIELDS = List.of("title", "owner", "service");
+
+    private static final String[] COUNT_QUERIES = new String[IncidentFilter.SHAPE_COUNT];
+    private static final Map<String, String> SELECT_QUERIES = new HashMap<>();
+
+    static {
+        for (int shape = 0; shape < IncidentFilter.SHAPE_COUNT; shape++) {
+            String where = whereClause(shape);
+            COUNT_QUERIES[shape] = "SELECT COUNT(i) FROM Incident i" + where;
+            for (String field : SORT_FIELDS) {
+                for (Sort.Direction direction : Sort.Direction.values()) {
+                    String select = "SELECT i FROM Incident i" + where + " ORDER BY ";
+                    SELECT_QUERIES.put(key(shape, field, direction, false),
+                            select + "i." + field + " " + direction.name());
+                    SELECT_QUERIES.put(key(shape, field, direction, true),
+                            select + codePointOrder(field) + " " + direction.name() + ", i.id " + direction.name());
+                }
+            }
+        }
+    }
+
+    private IncidentQueryTemplates() {
+    }
+
+    static String select(int shape, String sortField, Sort.Direction direction, boolean codePointOrder) {
+        String jpql = SELECT_QUERIES.get(key(shape, sortField, direction, codePointOrder));
+        if (jpql == null) {
+            throw new IllegalArgumentException("Unsupported sort field: " + sortField);
+        }
+        return jpql;
+    }
+
+    static String count(int shape) {
+        return COUNT_QUERIES[shape];
+    }
+
+    static <E extends Enum<E>> List<E> pad(Iterable<E> values, int arity) {
+        List<E> padded = new ArrayList<>(arity);
+        values.forEach(padded::add);
+        E first = padded.get(0);
+        while (padded.size() < arity) {
+            padded.add(first);
+        }
+        return padded;
+    }
+
+    private static String whereClause(int shape) {
+        List<String> predicates = new ArrayList<>();
+
+        if ((shape & IncidentFilter.SEARCH) != 0) {
+            predicates.add("(LOWER(i.title) LIKE :search OR LOWER(i.service) LIKE :search"
+                    + " OR LOWER(i.owner) LIKE :search OR LOWER(i.summary) LIKE :search)");
+        }
+        if ((shape & IncidentFilter.SERVICE) != 0) {
+            predicates.add("LOWER(i.service) = :service");
+        }
+        if ((shape & IncidentFilter.SEVERITY) != 0) {
+            predicates.add("i.severity IN (" + placeholders("severity", SEVERITY_ARITY) + ")");
+        }
+        if ((shape & IncidentFilter.STATUS) != 0) {
+            predicates.add("i.status IN (" + placeholders("status", STATUS_ARITY) + ")");
+        }
+
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+
+    private static String placeholders(String prefix, int arity) {
+        List<String> names = new ArrayList<>(arity);
+        for (int i = 0; i < arity; i++) {
+            names.add(":" + prefix + i);
+        }
+        return String.join(", ", names);
+    }
+
+    // Enums are stored as ASCII names, so only free-text columns need an explicit collation
+    private static String codePointOrder(String field) {
+        return TEXT_FIELDS.contains(field) ? "collate(i." + field + " as ucs_basic)" : "i." + field;
+    }
+
+    private static String key(int shape, String sortField, Sort.Direction direction, boolean codePointOrder) {
+        return shape + ":" + sortField + ":" + direction.name() + (codePointOrder ? ":cp" : "");
+    }
+}
@@ -2,12 +2,11 @@ package com.project.incident.repository;
 
 import com.project.incident.model.Incident;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.util.UUID;
 
 @Repository
-public interface IncidentRepository extends JpaRepository<Incident, UUID>, JpaSpecificationExecutor<Incident> {
+public interface IncidentRepository extends JpaRepository<Incident, UUID>, IncidentRepositoryCustom {
 }
 
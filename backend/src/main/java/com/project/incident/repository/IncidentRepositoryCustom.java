@@ -0,0 +1,11 @@
+package com.project.incident.repository;
+
+import com.project.incident.model.Incident;
+import com.project.incident.specification.IncidentFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface IncidentRepositoryCustom {
+
+    Page<Incident> findAll(IncidentFilter filter, Pageable pageable);
+}
@@ -0,0 +1,74 @@
+package com.project.incident.repository;
+
+import com.project.incident.model.Incident;
+import com.project.incident.specification.IncidentFilter;
+import com.project.incident.specification.IncidentSort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+public class IncidentRepositoryCustomImpl implements IncidentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Sharded listings are merged in memory, which needs a collation-independent order from every shard
+    @Value("${incident.sharding.enabled:false}")
+    private boolean codePointOrder;
+
+    @Override
+    public Page<Incident> findAll(IncidentFilter filter, Pageable pageable) {
+        Sort.Order order = pageable.getSort().stream()
+                .findFirst()
+                .orElse(Sort.Order.desc(IncidentSort.DEFAULT_FIELD));
+
+        TypedQuery<Incident> query = entityManager.createQuery(
+                IncidentQueryTemplates.select(filter.getShape(), order.getProperty(), order.getDirection(), codePointOrder),
+                Incident.class
+        );
+        bind(query, filter);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        List<Incident> content = query.getResultList();
+
+        // The count query is skipped when the page already tells us the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            TypedQuery<Long> countQuery = entityManager.createQuery(
+                    IncidentQueryTemplates.count(filter.getShape()), Long.class
+            );
+            bind(countQuery, filter);
+            return countQuery.getSingleResult();
+        });
+    }
+
+    static void bind(Query query, IncidentFilter filter) {
+        if (filter.has(IncidentFilter.SEARCH)) {
+            query.setParameter("search", filter.getSearchPattern());
+        }
+        if (filter.has(IncidentFilter.SERVICE)) {
+            query.setParameter("service", filter.getService());
+        }
+        if (filter.has(IncidentFilter.SEVERITY)) {
+            List<Incident.Severity> severities =
+                    IncidentQueryTemplates.pad(filter.getSeverities(), IncidentQueryTemplates.SEVERITY_ARITY);
+            for (int i = 0; i < severities.size(); i++) {
+                query.setParameter("severity" + i, severities.get(i));
+            }
+        }
+        if (filter.has(IncidentFilter.STATUS)) {
+            List<Incident.Status> statuses =
+                    IncidentQueryTemplates.pad(filter.getStatuses(), IncidentQueryTemplates.STATUS_ARITY);
+            for (int i = 0; i < statuses.size(); i++) {
+                query.setParameter("status" + i, statuses.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.project.incident.repository;
+
+import com.project.incident.model.IncidentTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface IncidentTransitionRepository extends JpaRepository<IncidentTransition, UUID> {
+
+    // First time each incident reached MITIGATED (or went straight to RESOLVED) and RESOLVED.
+    // Incidents are joined before grouping so the caller's optional service predicate, appended
+    // after this WHERE clause, limits the transitions scanned rather than the finished aggregate
+    String FIRSTS_SQL = """
+            WITH firsts AS (
+                SELECT i.service,
+                       i.created_at,
+                       MIN(t.changed_at) FILTER (WHERE t.new_value IN ('MITIGATED', 'RESOLVED')) AS mitigated_at,
+                       MIN(t.changed_at) FILTER (WHERE t.new_value = 'RESOLVED') AS resolved_at
+                FROM incident.incident_transitions t
+                JOIN incident.incidents i ON i.id = t.incident_id
+                WHERE t.field = 'STATUS' AND t.new_value IN ('MITIGATED', 'RESOLVED')
+            """;
+
+    // Durations measured from creation
+    String DURATIONS_SQL = """
+                GROUP BY i.id, i.service, i.created_at
+            ), durations AS (
+                SELECT service,
+                       CAST(EXTRACT(EPOCH FROM (mitigated_at - created_at)) AS double precision) AS ttm,
+                       CAST(EXTRACT(EPOCH FROM (resolved_at - created_at)) AS double precision) AS ttr
+                FROM firsts
+            """;
+
+    // Aggregates the durations per service in a single pass
+    String PERCENTILES_SQL = """
+            )
+            SELECT service,
+                   COUNT(ttm) AS "mitigatedCount",
+                   percentile_cont(0.5) WITHIN GROUP (ORDER BY ttm) AS "mttmP50",
+                   percentile_cont(0.9) WITHIN GROUP (ORDER BY ttm) AS "mttmP90",
+                   percentile_cont(0.99) WITHIN GROUP (ORDER BY ttm) AS "mttmP99",
+                   COUNT(ttr) AS "resolvedCount",
+                   percentile_cont(0.5) WITHIN GROUP (ORDER BY ttr) AS "mttrP50",
+                   percentile_cont(0.9) WITHIN GROUP (ORDER BY ttr) AS "mttrP90",
+                   percentile_cont(0.99) WITHIN GROUP (ORDER BY ttr) AS "mttrP99"
+            FROM durations
+            GROUP BY service
+            ORDER BY service
+            """;
+
+    List<IncidentTransition> findByIncidentIdOrderByChangedAtAsc(UUID incidentId);
+
+    @Query(value = FIRSTS_SQL + DURATIONS_SQL + PERCENTILES_SQL, nativeQuery = true)
+    List<ResolutionMetricsView> findResolutionMetrics();
+
+    @Query(value = FIRSTS_SQL + "AND LOWER(i.service) = LOWER(:service)\n" + DURATIONS_SQL + PERCENTILES_SQL,
+            nativeQuery = true)
+    List<ResolutionMetricsView> findResolutionMetricsByService(@Param("service") String service);
+}
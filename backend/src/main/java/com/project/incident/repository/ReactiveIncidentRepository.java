@@ -0,0 +1,134 @@
+package com.project.incident.repository;
+
+import com.project.incident.model.Incident;
+import com.project.incident.specification.IncidentFilter;
+import com.project.incident.specification.IncidentSort;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only, non-blocking access to the incidents table over R2DBC.
+ * Applies the same filters as the JPA query templates, normalized through {@link IncidentFilter}.
+ * Reads a single database, so it is disabled together with the reactive API when sharding is enabled.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "incident.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ReactiveIncidentRepository {
+
+    private static final String TABLE = "incident.incidents";
+    private static final String COLUMNS =
+            "id, title, service, severity, status, owner, summary, created_at, updated_at";
+
+    // Rows requested from the server per round-trip while streaming
+    private static final int FETCH_SIZE = 256;
+
+    private final DatabaseClient databaseClient;
+
+    // A limit of 0 streams every matching row; callers validate paging bounds
+    public Flux<Incident> findAll(
+            IncidentFilter filter,
+            String sortField,
+            Sort.Direction direction,
+            long offset,
+            int limit
+    ) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM ").append(TABLE)
+                .append(whereClause(filter, bindings))
+                .append(" ORDER BY ").append(IncidentSort.toColumn(sortField))
+                .append(direction.isDescending() ? " DESC" : " ASC");
+
+        if (limit > 0) {
+            sql.append(" LIMIT :limit OFFSET :offset");
+            bindings.put("limit", limit);
+            bindings.put("offset", offset);
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+                .filter(statement -> statement.fetchSize(FETCH_SIZE));
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+
+        return spec.map(this::mapRow).all();
+    }
+
+    public Mono<Long> count(IncidentFilter filter) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        String sql = "SELECT COUNT(*) AS total FROM " + TABLE
+                + whereClause(filter, bindings);
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+
+        return spec.map(row -> row.get("total", Long.class)).one();
+    }
+
+    public Mono<Incident> findById(UUID id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM " + TABLE + " WHERE id = :id")
+                .bind("id", id)
+                .map(this::mapRow)
+                .one();
+    }
+
+    private String whereClause(IncidentFilter filter, Map<String, Object> bindings) {
+        List<String> predicates = new ArrayList<>();
+
+        // Search filter (searches in title, service, owner, and summary)
+        if (filter.has(IncidentFilter.SEARCH)) {
+            predicates.add("(LOWER(title) LIKE :search OR LOWER(service) LIKE :search"
+                    + " OR LOWER(owner) LIKE :search OR LOWER(summary) LIKE :search)");
+            bindings.put("search", filter.getSearchPattern());
+        }
+
+        // Service filter
+        if (filter.has(IncidentFilter.SERVICE)) {
+            predicates.add("LOWER(service) = :service");
+            bindings.put("service", filter.getService());
+        }
+
+        // Severity filter, bound as a single array so the statement text does not depend on list size
+        if (filter.has(IncidentFilter.SEVERITY)) {
+            predicates.add("severity = ANY(:severities)");
+            bindings.put("severities", filter.getSeverities().stream().map(Enum::name).toArray(String[]::new));
+        }
+
+        // Status filter
+        if (filter.has(IncidentFilter.STATUS)) {
+            predicates.add("status = ANY(:statuses)");
+            bindings.put("statuses", filter.getStatuses().stream().map(Enum::name).toArray(String[]::new));
+        }
+
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+
+    private Incident mapRow(Readable row) {
+        return Incident.builder()
+                .id(row.get("id", UUID.class))
+                .title(row.get("title", String.class))
+                .service(row.get("service", String.class))
+                .severity(Incident.Severity.valueOf(row.get("severity", String.class)))
+                .status(Incident.Status.valueOf(row.get("status", String.class)))
+                .owner(row.get("owner", String.class))
+                .summary(row.get("summary", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
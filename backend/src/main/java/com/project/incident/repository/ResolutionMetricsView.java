@@ -0,0 +1,25 @@
+package com.project.incident.repository;
+
+/**
+ * Per-service time-to-mitigate / time-to-resolve percentiles, in seconds.
+ */
+public interface ResolutionMetricsView {
+
+    String getService();
+
+    Long getMitigatedCount();
+
+    Double getMttmP50();
+
+    Double getMttmP90();
+
+    Double getMttmP99();
+
+    Long getResolvedCount();
+
+    Double getMttrP50();
+
+    Double getMttrP90();
+
+    Double getMttrP99();
+}
@@ -2,7 +2,10 @@ package com.project.incident.service;
 
 import com.project.incident.dto.IncidentRequest;
 import com.project.incident.dto.IncidentResponse;
+import com.project.incident.dto.IncidentTransitionResponse;
 import com.project.incident.dto.PageResponse;
+import com.project.incident.dto.ResolutionMetricsResponse;
+import com.project.incident.dto.SimilarIncidentResponse;
 import com.project.incident.dto.UpdateIncidentRequest;
 import com.project.incident.model.Incident;
 
@@ -28,4 +31,10 @@ public interface IncidentService {
     IncidentResponse getIncidentById(UUID id);
 
     IncidentResponse updateIncident(UUID id, UpdateIncidentRequest request);
+
+    List<IncidentTransitionResponse> getIncidentHistory(UUID id);
+
+    List<ResolutionMetricsResponse> getResolutionMetrics(String service);
+
+    List<SimilarIncidentResponse> getSimilarIncidents(UUID id, int limit);
 }
\ No newline at end of file
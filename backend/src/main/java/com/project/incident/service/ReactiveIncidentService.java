@@ -0,0 +1,36 @@
+package com.project.incident.service;
+
+import com.project.incident.dto.IncidentResponse;
+import com.project.incident.dto.PageResponse;
+import com.project.incident.model.Incident;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReactiveIncidentService {
+
+    Mono<PageResponse<IncidentResponse>> getIncidents(
+            String search,
+            String service,
+            List<Incident.Severity> severities,
+            List<Incident.Status> statuses,
+            String sortBy,
+            String sortDir,
+            int page,
+            int size
+    );
+
+    Flux<IncidentResponse> streamIncidents(
+            String search,
+            String service,
+            List<Incident.Severity> severities,
+            List<Incident.Status> statuses,
+            String sortBy,
+            String sortDir,
+            int limit
+    );
+
+    Mono<IncidentResponse> getIncidentById(UUID id);
+}
@@ -2,22 +2,35 @@ package com.project.incident.service.impl;
 
 import com.project.incident.dto.IncidentRequest;
 import com.project.incident.dto.IncidentResponse;
+import com.project.incident.dto.IncidentTransitionResponse;
 import com.project.incident.dto.PageResponse;
+import com.project.incident.dto.ResolutionMetricsResponse;
+import com.project.incident.dto.SimilarIncidentResponse;
 import com.project.incident.dto.UpdateIncidentRequest;
+import com.project.incident.exception.IncidentNotFoundException;
+import com.project.incident.history.IncidentHistoryRecorder;
 import com.project.incident.model.Incident;
+import com.project.incident.model.IncidentTransition;
 import com.project.incident.repository.IncidentRepository;
+import com.project.incident.repository.IncidentTransitionRepository;
+import com.project.incident.repository.ResolutionMetricsView;
 import com.project.incident.service.IncidentService;
-import com.project.incident.specification.IncidentSpecification;
+import com.project.incident.similarity.SimilarityIndex;
+import com.project.incident.specification.IncidentFilter;
+import com.project.incident.specification.IncidentSort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -28,6 +41,11 @@ import java.util.stream.Collectors;
 public class IncidentServiceImpl implements IncidentService {
 
     private final IncidentRepository incidentRepository;
+    private final IncidentTransitionRepository transitionRepository;
+    private final IncidentHistoryRecorder historyRecorder;
+    private final SimilarityIndex similarityIndex;
+
+    private static final int MAX_SIMILAR_LIMIT = 50;
 
     @Transactional
     public IncidentResponse createIncident(IncidentRequest request) {
@@ -45,6 +63,16 @@ public class IncidentServiceImpl implements IncidentService {
         Incident saved = incidentRepository.save(incident);
         log.info("Incident created successfully with id: {}", saved.getId());
 
+        // Record the initial state so durations are measured from creation
+        UUID id = saved.getId();
+        LocalDateTime createdAt = saved.getCreatedAt();
+        List<IncidentTransition> transitions = new ArrayList<>();
+        addTransition(transitions, id, IncidentTransition.Field.STATUS, null, saved.getStatus(), createdAt);
+        addTransition(transitions, id, IncidentTransition.Field.SEVERITY, null, saved.getSeverity(), createdAt);
+        addTransition(transitions, id, IncidentTransition.Field.OWNER, null, saved.getOwner(), createdAt);
+        historyRecorder.record(transitions);
+        indexAfterCommit(saved);
+
         return mapToResponse(saved);
     }
 
@@ -61,17 +89,15 @@ public class IncidentServiceImpl implements IncidentService {
     ) {
         log.info("Fetching incidents with filters - page: {}, size: {}", page, size);
 
-        // Build specification for filtering
-        Specification<Incident> spec = IncidentSpecification.withFilters(
-                search, service, severities, statuses
-        );
+        // Normalize filters; the filter shape selects a precompiled query template
+        IncidentFilter filter = IncidentFilter.of(search, service, severities, statuses);
 
         // Build sort
         Sort sort = buildSort(sortBy, sortDir);
         Pageable pageable = PageRequest.of(page, size, sort);
 
         // Execute query
-        Page<Incident> incidentPage = incidentRepository.findAll(spec, pageable);
+        Page<Incident> incidentPage = incidentRepository.findAll(filter, pageable);
 
         // Map to response
         List<IncidentResponse> content = incidentPage.getContent().stream()
@@ -94,7 +120,7 @@ public class IncidentServiceImpl implements IncidentService {
         log.info("Fetching incident with id: {}", id);
 
         Incident incident = incidentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Incident not found with id: " + id));
+                .orElseThrow(() -> new IncidentNotFoundException(id));
 
         return mapToResponse(incident);
     }
@@ -104,7 +130,17 @@ public class IncidentServiceImpl implements IncidentService {
         log.info("Updating incident with id: {}", id);
 
         Incident incident = incidentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Incident not found with id: " + id));
+                .orElseThrow(() -> new IncidentNotFoundException(id));
+
+        // Capture status/severity/owner changes for the transition history
+        LocalDateTime changedAt = LocalDateTime.now();
+        List<IncidentTransition> transitions = new ArrayList<>();
+        addTransition(transitions, id, IncidentTransition.Field.STATUS,
+                incident.getStatus(), request.getStatus(), changedAt);
+        addTransition(transitions, id, IncidentTransition.Field.SEVERITY,
+                incident.getSeverity(), request.getSeverity(), changedAt);
+        addTransition(transitions, id, IncidentTransition.Field.OWNER,
+                incident.getOwner(), request.getOwner(), changedAt);
 
         // Update fields if provided
         if (request.getTitle() != null) {
@@ -127,38 +163,96 @@ public class IncidentServiceImpl implements IncidentService {
         }
 
         Incident updated = incidentRepository.save(incident);
+        historyRecorder.record(transitions);
+        indexAfterCommit(updated);
         log.info("Incident updated successfully with id: {}", updated.getId());
 
         return mapToResponse(updated);
     }
 
-    private Sort buildSort(String sortBy, String sortDir) {
-        if (sortBy == null || sortBy.trim().isEmpty()) {
-            sortBy = "createdAt";
+    @Transactional(readOnly = true)
+    public List<IncidentTransitionResponse> getIncidentHistory(UUID id) {
+        log.info("Fetching transition history for incident with id: {}", id);
+
+        if (!incidentRepository.existsById(id)) {
+            throw new IncidentNotFoundException(id);
         }
 
-        // Map frontend column names to entity field names
-        String fieldName = mapSortField(sortBy);
+        return transitionRepository.findByIncidentIdOrderByChangedAtAsc(id).stream()
+                .map(this::mapToTransitionResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResolutionMetricsResponse> getResolutionMetrics(String service) {
+        log.info("Computing resolution metrics for service: {}", service);
+
+        List<ResolutionMetricsView> metrics = service != null && !service.trim().isEmpty()
+                ? transitionRepository.findResolutionMetricsByService(service)
+                : transitionRepository.findResolutionMetrics();
+
+        return metrics.stream()
+                .map(this::mapToMetricsResponse)
+                .collect(Collectors.toList());
+    }
+
+    // Not transactional: indexed incidents are answered from memory without touching the database
+    public List<SimilarIncidentResponse> getSimilarIncidents(UUID id, int limit) {
+        log.info("Fetching incidents similar to id: {}", id);
+
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SIMILAR_LIMIT));
+        List<SimilarityIndex.Match> matches = similarityIndex.findSimilar(id, boundedLimit)
+                .orElseGet(() -> {
+                    Incident incident = incidentRepository.findById(id)
+                            .orElseThrow(() -> new IncidentNotFoundException(id));
+                    return similarityIndex.findSimilar(incident, boundedLimit);
+                });
+
+        return matches.stream()
+                .map(this::mapToSimilarResponse)
+                .collect(Collectors.toList());
+    }
 
-        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir)
-                ? Sort.Direction.DESC
-                : Sort.Direction.ASC;
+    // Index only committed state, after @PreUpdate has refreshed updatedAt
+    private void indexAfterCommit(Incident incident) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    similarityIndex.add(incident);
+                }
+            });
+        } else {
+            similarityIndex.add(incident);
+        }
+    }
 
-        return Sort.by(direction, fieldName);
+    // Adds a transition only when a new value is provided and differs from the current one
+    private void addTransition(
+            List<IncidentTransition> transitions,
+            UUID incidentId,
+            IncidentTransition.Field field,
+            Object oldValue,
+            Object newValue,
+            LocalDateTime changedAt
+    ) {
+        if (newValue == null || newValue.equals(oldValue)) {
+            return;
+        }
+        transitions.add(IncidentTransition.builder()
+                .incidentId(incidentId)
+                .field(field)
+                .oldValue(oldValue != null ? oldValue.toString() : null)
+                .newValue(newValue.toString())
+                .changedAt(changedAt)
+                .build());
     }
 
-    private String mapSortField(String sortBy) {
-        // Map common frontend column names to entity fields
-        return switch (sortBy.toLowerCase()) {
-            case "title" -> "title";
-            case "severity" -> "severity";
-            case "status" -> "status";
-            case "createdat" -> "createdAt";
-            case "created_at" -> "createdAt";
-            case "owner" -> "owner";
-            case "service" -> "service";
-            default -> "createdAt";
-        };
+    private Sort buildSort(String sortBy, String sortDir) {
+        // Map frontend column names to entity field names
+        String fieldName = IncidentSort.mapSortField(sortBy);
+
+        return Sort.by(IncidentSort.direction(sortDir), fieldName);
     }
 
     private IncidentResponse mapToResponse(Incident incident) {
@@ -174,5 +268,43 @@ public class IncidentServiceImpl implements IncidentService {
                 .updatedAt(incident.getUpdatedAt())
                 .build();
     }
+
+    private IncidentTransitionResponse mapToTransitionResponse(IncidentTransition transition) {
+        return IncidentTransitionResponse.builder()
+                .id(transition.getId())
+                .incidentId(transition.getIncidentId())
+                .field(transition.getField())
+                .oldValue(transition.getOldValue())
+                .newValue(transition.getNewValue())
+                .changedAt(transition.getChangedAt())
+                .build();
+    }
+
+    private SimilarIncidentResponse mapToSimilarResponse(SimilarityIndex.Match match) {
+        SimilarityIndex.Entry entry = match.entry();
+        return SimilarIncidentResponse.builder()
+                .id(entry.id())
+                .title(entry.title())
+                .service(entry.service())
+                .severity(entry.severity())
+                .status(entry.status())
+                .createdAt(entry.createdAt())
+                .similarity(match.similarity())
+                .build();
+    }
+
+    private ResolutionMetricsResponse mapToMetricsResponse(ResolutionMetricsView metrics) {
+        return ResolutionMetricsResponse.builder()
+                .service(metrics.getService())
+                .mitigatedCount(metrics.getMitigatedCount())
+                .mttmP50(metrics.getMttmP50())
+                .mttmP90(metrics.getMttmP90())
+                .mttmP99(metrics.getMttmP99())
+                .resolvedCount(metrics.getResolvedCount())
+                .mttrP50(metrics.getMttrP50())
+                .mttrP90(metrics.getMttrP90())
+                .mttrP99(metrics.getMttrP99())
+                .build();
+    }
 }
 
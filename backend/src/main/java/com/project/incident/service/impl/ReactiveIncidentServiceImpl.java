@@ -0,0 +1,115 @@
+package com.project.incident.service.impl;
+
+import com.project.incident.dto.IncidentResponse;
+import com.project.incident.dto.PageResponse;
+import com.project.incident.exception.IncidentNotFoundException;
+import com.project.incident.model.Incident;
+import com.project.incident.repository.ReactiveIncidentRepository;
+import com.project.incident.service.ReactiveIncidentService;
+import com.project.incident.specification.IncidentFilter;
+import com.project.incident.specification.IncidentSort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@ConditionalOnProperty(prefix = "incident.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveIncidentServiceImpl implements ReactiveIncidentService {
+
+    private final ReactiveIncidentRepository reactiveIncidentRepository;
+
+    public Mono<PageResponse<IncidentResponse>> getIncidents(
+            String search,
+            String service,
+            List<Incident.Severity> severities,
+            List<Incident.Status> statuses,
+            String sortBy,
+            String sortDir,
+            int page,
+            int size
+    ) {
+        log.debug("Fetching incidents reactively with filters - page: {}, size: {}", page, size);
+
+        // Same bounds as the JPA path: rejects page < 0 and size < 1
+        Pageable pageable = PageRequest.of(page, size);
+
+        IncidentFilter filter = IncidentFilter.of(search, service, severities, statuses);
+        String sortField = IncidentSort.mapSortField(sortBy);
+        Sort.Direction direction = IncidentSort.direction(sortDir);
+
+        Mono<List<IncidentResponse>> content = reactiveIncidentRepository
+                .findAll(filter, sortField, direction, pageable.getOffset(), pageable.getPageSize())
+                .map(this::mapToResponse)
+                .collectList();
+        Mono<Long> total = reactiveIncidentRepository.count(filter);
+
+        return Mono.zip(content, total).map(tuple -> {
+            long totalElements = tuple.getT2();
+            int totalPages = (int) Math.ceil((double) totalElements / size);
+
+            return PageResponse.<IncidentResponse>builder()
+                    .content(tuple.getT1())
+                    .page(page)
+                    .size(size)
+                    .totalElements(totalElements)
+                    .totalPages(totalPages)
+                    .first(page == 0)
+                    .last(page + 1 >= totalPages)
+                    .build();
+        });
+    }
+
+    public Flux<IncidentResponse> streamIncidents(
+            String search,
+            String service,
+            List<Incident.Severity> severities,
+            List<Incident.Status> statuses,
+            String sortBy,
+            String sortDir,
+            int limit
+    ) {
+        log.debug("Streaming incidents reactively with filters - limit: {}", limit);
+
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be less than zero");
+        }
+
+        return reactiveIncidentRepository
+                .findAll(IncidentFilter.of(search, service, severities, statuses),
+                        IncidentSort.mapSortField(sortBy), IncidentSort.direction(sortDir), 0, limit)
+                .map(this::mapToResponse);
+    }
+
+    public Mono<IncidentResponse> getIncidentById(UUID id) {
+        log.debug("Fetching incident reactively with id: {}", id);
+
+        return reactiveIncidentRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new IncidentNotFoundException(id)))
+                .map(this::mapToResponse);
+    }
+
+    private IncidentResponse mapToResponse(Incident incident) {
+        return IncidentResponse.builder()
+                .id(incident.getId())
+                .title(incident.getTitle())
+                .service(incident.getService())
+                .severity(incident.getSeverity())
+                .status(incident.getStatus())
+                .owner(incident.getOwner())
+                .summary(incident.getSummary())
+                .createdAt(incident.getCreatedAt())
+                .updatedAt(incident.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,183 @@
+package com.project.incident.service.impl;
+
+import com.project.incident.dto.IncidentRequest;
+import com.project.incident.dto.IncidentResponse;
+import com.project.incident.dto.IncidentTransitionResponse;
+import com.project.incident.dto.PageResponse;
+import com.project.incident.dto.ResolutionMetricsResponse;
+import com.project.incident.dto.SimilarIncidentResponse;
+import com.project.incident.dto.UpdateIncidentRequest;
+import com.project.incident.exception.CrossShardMoveException;
+import com.project.incident.exception.IncidentNotFoundException;
+import com.project.incident.exception.PageWindowTooLargeException;
+import com.project.incident.model.Incident;
+import com.project.incident.service.IncidentService;
+import com.project.incident.sharding.ShardContext;
+import com.project.incident.sharding.ShardMerge;
+import com.project.incident.sharding.ShardRouter;
+import com.project.incident.sharding.ShardingProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+/**
+ * Routes {@link IncidentService} calls to the shard owning the incident's service.
+ * <p>
+ * Creates, lookups by id and service-filtered queries touch a single shard. Unfiltered listings
+ * query every shard in parallel for its first {@code (page + 1) * size} rows and k-way merge them
+ * on the requested sort to produce the global page. That window is capped at
+ * {@code incident.sharding.max-scatter-window} rows; deeper pages must add a service filter.
+ * <p>
+ * Lookups by id go only to the shard encoded in the id. {@link com.project.incident.sharding.ShardLayoutMigrator}
+ * ensures at startup that this is the shard holding the incident.
+ * <p>
+ * Every service lives on exactly one shard, so per-service resolution metrics from each shard are
+ * already exact and are simply combined.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "incident.sharding", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ShardedIncidentService implements IncidentService {
+
+    private final IncidentServiceImpl incidentService;
+    private final ShardRouter shardRouter;
+    private final ShardingProperties shardingProperties;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public IncidentResponse createIncident(IncidentRequest request) {
+        int shard = shardRouter.shardForService(request.getService());
+        return ShardContext.callOn(shard, () -> incidentService.createIncident(request));
+    }
+
+    public PageResponse<IncidentResponse> getIncidents(
+            String search,
+            String service,
+            List<Incident.Severity> severities,
+            List<Incident.Status> statuses,
+            String sortBy,
+            String sortDir,
+            int page,
+            int size
+    ) {
+        // A service filter pins the query to the shard owning that service
+        if (service != null && !service.trim().isEmpty()) {
+            int shard = shardRouter.shardForService(service);
+            return ShardContext.callOn(shard, () -> incidentService.getIncidents(
+                    search, service, severities, statuses, sortBy, sortDir, page, size
+            ));
+        }
+
+        log.info("Scatter-gather across {} shards - page: {}, size: {}", shardRouter.getShardCount(), page, size);
+
+        // Each shard returns everything up to the end of the requested page, so bound how deep that goes
+        long requested = (long) (page + 1) * size;
+        if (requested > shardingProperties.getMaxScatterWindow()) {
+            throw new PageWindowTooLargeException(requested, shardingProperties.getMaxScatterWindow());
+        }
+        int window = (int) requested;
+        List<CompletableFuture<PageResponse<IncidentResponse>>> futures = new ArrayList<>();
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> ShardContext.callOn(target, () ->
+                    incidentService.getIncidents(search, null, severities, statuses, sortBy, sortDir, 0, window)
+            ), executor));
+        }
+
+        long totalElements = 0;
+        List<Iterator<IncidentResponse>> shardResults = new ArrayList<>();
+        for (CompletableFuture<PageResponse<IncidentResponse>> future : futures) {
+            PageResponse<IncidentResponse> shardPage = future.join();
+            totalElements += shardPage.getTotalElements();
+            shardResults.add(shardPage.getContent().iterator());
+        }
+
+        List<IncidentResponse> content = ShardMerge.merge(
+                shardResults, ShardMerge.comparator(sortBy, sortDir), (long) page * size, size);
+        int totalPages = (int) Math.ceil((double) totalElements / size);
+
+        return PageResponse.<IncidentResponse>builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .first(page == 0)
+                .last(page + 1 >= totalPages)
+                .build();
+    }
+
+    public IncidentResponse getIncidentById(UUID id) {
+        return onOwningShard(id, shard -> incidentService.getIncidentById(id));
+    }
+
+    public IncidentResponse updateIncident(UUID id, UpdateIncidentRequest request) {
+        return onOwningShard(id, shard -> {
+            if (request.getService() != null && shardRouter.shardForService(request.getService()) != shard) {
+                // Only report a cross-shard move for an incident that actually lives here
+                incidentService.getIncidentById(id);
+                throw new CrossShardMoveException(id, request.getService());
+            }
+            return incidentService.updateIncident(id, request);
+        });
+    }
+
+    public List<IncidentTransitionResponse> getIncidentHistory(UUID id) {
+        return onOwningShard(id, shard -> incidentService.getIncidentHistory(id));
+    }
+
+    public List<ResolutionMetricsResponse> getResolutionMetrics(String service) {
+        if (service != null && !service.trim().isEmpty()) {
+            int shard = shardRouter.shardForService(service);
+            return ShardContext.callOn(shard, () -> incidentService.getResolutionMetrics(service));
+        }
+
+        // Every service lives on exactly one shard, so per-service percentiles can simply be concatenated
+        List<CompletableFuture<List<ResolutionMetricsResponse>>> futures = new ArrayList<>();
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> ShardContext.callOn(target, () ->
+                    incidentService.getResolutionMetrics(null)
+            ), executor));
+        }
+
+        List<ResolutionMetricsResponse> metrics = new ArrayList<>();
+        futures.forEach(future -> metrics.addAll(future.join()));
+        metrics.sort(Comparator.comparing(ResolutionMetricsResponse::getService));
+        return metrics;
+    }
+
+    // The similarity index spans all shards; only an unindexed source incident is read from its shard
+    public List<SimilarIncidentResponse> getSimilarIncidents(UUID id, int limit) {
+        return onOwningShard(id, shard -> incidentService.getSimilarIncidents(id, limit));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // Runs the action on the shard encoded in the id; an id naming no configured shard cannot exist
+    private <T> T onOwningShard(UUID id, IntFunction<T> action) {
+        int shard = shardRouter.shardForId(id);
+        if (shard < 0) {
+            throw new IncidentNotFoundException(id);
+        }
+        return ShardContext.callOn(shard, () -> action.apply(shard));
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.incident.sharding;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.util.UUID;
+
+/**
+ * Random UUID generator that stamps the current shard index into the top byte of the id, so an
+ * incident's shard can be derived from its id alone. Without a shard in context it behaves like
+ * {@link UUID#randomUUID()}.
+ */
+public class ShardAwareUuidGenerator implements IdentifierGenerator {
+
+    public static final int MAX_SHARDS = 256;
+
+    private static final int SHARD_SHIFT = 56;
+    private static final long RANDOM_BITS = (1L << SHARD_SHIFT) - 1;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return newId(ShardContext.current());
+    }
+
+    public static UUID newId(Integer shard) {
+        UUID uuid = UUID.randomUUID();
+        return shard == null ? uuid : withShard(uuid, shard);
+    }
+
+    // Replaces the top byte only, so the same id always maps to the same id on a given shard
+    public static UUID withShard(UUID id, int shard) {
+        long mostSigBits = (id.getMostSignificantBits() & RANDOM_BITS) | ((long) shard << SHARD_SHIFT);
+        return new UUID(mostSigBits, id.getLeastSignificantBits());
+    }
+
+    public static int shardOf(UUID id) {
+        return (int) (id.getMostSignificantBits() >>> SHARD_SHIFT);
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.incident.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds the shard selected for the current thread. {@link ShardRoutingDataSource} reads it when a
+ * transaction obtains its connection, so it must be set before entering a transactional method.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T callOn(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.project.incident.sharding;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Checks at startup that every incident sits on the shard owning its service and carries that
+ * shard in its id, which is what single-shard lookups and service-filtered queries rely on.
+ * <p>
+ * Incidents created before sharding was enabled fail that check: their ids are random, and they
+ * live wherever the data was before. With {@code migrate-on-startup} they are first moved to the
+ * owning shard, together with their transitions, under an id whose top byte is rewritten to that
+ * shard. Rows are inserted on the target before they are deleted from the source and the new id
+ * is derived from the old one, so an interrupted migration can simply be run again.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ShardLayoutMigrator implements SmartInitializingSingleton {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INCIDENT_COLUMNS =
+            "id, title, service, severity, status, owner, summary, created_at, updated_at";
+    private static final String TRANSITION_COLUMNS =
+            "id, incident_id, field, old_value, new_value, changed_at";
+
+    private final ShardRoutingDataSource dataSource;
+    private final ShardRouter shardRouter;
+    private final ShardingProperties properties;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.isMigrateOnStartup()) {
+            migrate();
+        }
+        if (properties.isVerifyOnStartup()) {
+            verify();
+        }
+    }
+
+    public void migrate() {
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            NamedParameterJdbcTemplate source = jdbc(shard);
+            MapSqlParameterSource params = misplacedParams(source, shard);
+            String misplaced = misplacedPredicate(params);
+
+            int moved = 0;
+            List<Map<String, Object>> rows;
+            do {
+                rows = source.queryForList("SELECT " + INCIDENT_COLUMNS + " FROM incident.incidents WHERE "
+                        + misplaced + " LIMIT " + BATCH_SIZE, params);
+                rows.forEach(row -> move(source, row));
+                moved += rows.size();
+            } while (rows.size() == BATCH_SIZE);
+
+            if (moved > 0) {
+                log.info("Moved {} incidents off shard {} to their owning shards", moved, shard);
+            }
+        }
+    }
+
+    public void verify() {
+        List<String> problems = new ArrayList<>();
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            NamedParameterJdbcTemplate jdbc = jdbc(shard);
+            MapSqlParameterSource params = misplacedParams(jdbc, shard);
+            Long count = jdbc.queryForObject("SELECT COUNT(*) FROM incident.incidents WHERE "
+                    + misplacedPredicate(params), params, Long.class);
+            if (count != null && count > 0) {
+                problems.add(count + " on shard " + shard);
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Incidents not on the shard owning their service or without that shard"
+                    + " in their id (" + String.join(", ", problems) + "); set"
+                    + " incident.sharding.migrate-on-startup=true to move them");
+        }
+    }
+
+    private void move(NamedParameterJdbcTemplate source, Map<String, Object> incident) {
+        UUID oldId = (UUID) incident.get("id");
+        int target = shardRouter.shardForService((String) incident.get("service"));
+        UUID newId = ShardAwareUuidGenerator.withShard(oldId, target);
+        NamedParameterJdbcTemplate destination = jdbc(target);
+
+        List<Map<String, Object>> transitions = source.queryForList(
+                "SELECT " + TRANSITION_COLUMNS + " FROM incident.incident_transitions WHERE incident_id = :id",
+                new MapSqlParameterSource("id", oldId));
+
+        incident.put("id", newId);
+        insert(destination, "incident.incidents", INCIDENT_COLUMNS, incident);
+        for (Map<String, Object> transition : transitions) {
+            transition.put("id", ShardAwareUuidGenerator.withShard((UUID) transition.get("id"), target));
+            transition.put("incident_id", newId);
+            insert(destination, "incident.incident_transitions", TRANSITION_COLUMNS, transition);
+        }
+
+        MapSqlParameterSource id = new MapSqlParameterSource("id", oldId);
+        source.update("DELETE FROM incident.incident_transitions WHERE incident_id = :id", id);
+        source.update("DELETE FROM incident.incidents WHERE id = :id", id);
+    }
+
+    // A rerun after an interrupted move finds the row already copied and leaves it as is
+    private static void insert(NamedParameterJdbcTemplate jdbc, String table, String columns, Map<String, Object> row) {
+        String values = String.join(", ", Arrays.stream(columns.split(", ")).map(column -> ":" + column).toList());
+        jdbc.update("INSERT INTO " + table + " (" + columns + ") VALUES (" + values + ") ON CONFLICT (id) DO NOTHING",
+                new MapSqlParameterSource(row));
+    }
+
+    // Ids stamped with another shard, or services that belong on another shard
+    private MapSqlParameterSource misplacedParams(NamedParameterJdbcTemplate jdbc, int shard) {
+        List<String> foreignServices = jdbc.queryForList(
+                        "SELECT DISTINCT LOWER(service) FROM incident.incidents", Map.of(), String.class).stream()
+                .filter(service -> shardRouter.shardForService(service) != shard)
+                .toList();
+        return new MapSqlParameterSource()
+                .addValue("shard", shard)
+                .addValue("services", foreignServices);
+    }
+
+    private static String misplacedPredicate(MapSqlParameterSource params) {
+        List<?> services = (List<?>) params.getValue("services");
+        return "(get_byte(uuid_send(id), 0) <> :shard"
+                + (services.isEmpty() ? "" : " OR LOWER(service) IN (:services)") + ")";
+    }
+
+    private NamedParameterJdbcTemplate jdbc(int shard) {
+        DataSource shardDataSource = dataSource.getResolvedDataSources().get(shard);
+        return new NamedParameterJdbcTemplate(shardDataSource);
+    }
+}
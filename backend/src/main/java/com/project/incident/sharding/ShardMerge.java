@@ -0,0 +1,98 @@
+package com.project.incident.sharding;
+
+import com.project.incident.dto.IncidentResponse;
+import com.project.incident.specification.IncidentSort;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * K-way merge of per-shard results into one globally sorted page.
+ * <p>
+ * The merge is only correct if every shard returns rows in exactly the order of {@link #comparator}.
+ * With sharding enabled the query templates therefore sort text columns by code point
+ * ({@code ucs_basic} collation) and break ties on {@code id}, which is what this comparator does.
+ */
+public final class ShardMerge {
+
+    private ShardMerge() {
+    }
+
+    public static <T> List<T> merge(
+            List<? extends Iterator<T>> sources,
+            Comparator<T> comparator,
+            long offset,
+            int limit
+    ) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>((a, b) -> comparator.compare(a.value(), b.value()));
+        for (Iterator<T> source : sources) {
+            if (source.hasNext()) {
+                heads.add(new Head<>(source.next(), source));
+            }
+        }
+
+        List<T> content = new ArrayList<>(limit);
+        long skipped = 0;
+        while (!heads.isEmpty() && content.size() < limit) {
+            Head<T> head = heads.poll();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                content.add(head.value());
+            }
+            if (head.source().hasNext()) {
+                heads.add(new Head<>(head.source().next(), head.source()));
+            }
+        }
+        return content;
+    }
+
+    // Mirrors the database ordering: enums sort by name (EnumType.STRING), text by code point,
+    // nulls last ascending and first descending, ties broken by id compared as unsigned bytes
+    public static Comparator<IncidentResponse> comparator(String sortBy, String sortDir) {
+        Comparator<IncidentResponse> comparator = switch (IncidentSort.mapSortField(sortBy)) {
+            case "title" -> byText(IncidentResponse::getTitle);
+            case "severity" -> byText(response -> response.getSeverity().name());
+            case "status" -> byText(response -> response.getStatus().name());
+            case "owner" -> byText(IncidentResponse::getOwner);
+            case "service" -> byText(IncidentResponse::getService);
+            default -> Comparator.comparing(IncidentResponse::getCreatedAt);
+        };
+        comparator = comparator.thenComparing(IncidentResponse::getId, ShardMerge::compareUuids);
+        return IncidentSort.direction(sortDir) == Sort.Direction.DESC ? comparator.reversed() : comparator;
+    }
+
+    static int compareCodePoints(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int ca = a.codePointAt(i);
+            int cb = b.codePointAt(j);
+            if (ca != cb) {
+                return Integer.compare(ca, cb);
+            }
+            i += Character.charCount(ca);
+            j += Character.charCount(cb);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+
+    // PostgreSQL compares uuid values byte by byte
+    static int compareUuids(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static Comparator<IncidentResponse> byText(Function<IncidentResponse, String> key) {
+        return Comparator.comparing(key, Comparator.nullsLast(ShardMerge::compareCodePoints));
+    }
+
+    private record Head<T>(T value, Iterator<T> source) {
+    }
+}
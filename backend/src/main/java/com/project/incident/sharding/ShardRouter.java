@@ -0,0 +1,57 @@
+package com.project.incident.sharding;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resolves the shard owning a service or an incident id. Service names are matched
+ * case-insensitively, the same way the service filter matches them.
+ */
+public class ShardRouter {
+
+    private final int shardCount;
+    private final Map<String, Integer> serviceShards = new HashMap<>();
+
+    public ShardRouter(ShardingProperties properties) {
+        List<ShardingProperties.Shard> shards = properties.getShards();
+        if (shards.isEmpty() || shards.size() > ShardAwareUuidGenerator.MAX_SHARDS) {
+            throw new IllegalStateException(
+                    "incident.sharding.shards must list between 1 and " + ShardAwareUuidGenerator.MAX_SHARDS + " shards");
+        }
+        this.shardCount = shards.size();
+
+        Map<String, Integer> shardIndexes = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            shardIndexes.put(shards.get(i).getName(), i);
+        }
+        properties.getServices().forEach((service, shardName) -> {
+            Integer index = shardIndexes.get(shardName);
+            if (index == null) {
+                throw new IllegalStateException("Service " + service + " is mapped to unknown shard: " + shardName);
+            }
+            serviceShards.put(service.toLowerCase(), index);
+        });
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardForService(String service) {
+        String key = service.toLowerCase();
+        Integer mapped = serviceShards.get(key);
+        return mapped != null ? mapped : Math.floorMod(key.hashCode(), shardCount);
+    }
+
+    /**
+     * Returns the shard encoded in the id, or -1 if the id names no configured shard. Only ids stamped
+     * by {@link ShardAwareUuidGenerator} are meaningful here; older ids must be migrated first
+     * (see {@link ShardLayoutMigrator}).
+     */
+    public int shardForId(UUID id) {
+        int shard = ShardAwareUuidGenerator.shardOf(id);
+        return shard < shardCount ? shard : -1;
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.incident.sharding;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.tool.hbm2ddl.SchemaUpdate;
+import org.hibernate.tool.schema.TargetType;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import javax.sql.DataSource;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies {@code ddl-auto: update} to every shard. Hibernate only manages the schema of the
+ * default (first) shard at bootstrap, so the remaining shards are updated here from the same entities.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+
+    private final ShardRoutingDataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<Class<?>> entities = entityManagerFactory.getMetamodel().getEntities().stream()
+                .<Class<?>>map(EntityType::getJavaType)
+                .toList();
+
+        for (Map.Entry<Object, DataSource> shard : dataSource.getResolvedDataSources().entrySet()) {
+            if (Integer.valueOf(0).equals(shard.getKey())) {
+                continue;
+            }
+            log.info("Updating schema on shard {}", shard.getKey());
+            updateSchema(shard.getValue(), entities);
+        }
+    }
+
+    private void updateSchema(DataSource shardDataSource, List<Class<?>> entities) {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DATASOURCE, shardDataSource)
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+                        CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .applySetting(AvailableSettings.HBM2DDL_CREATE_NAMESPACES, true)
+                .build();
+        try {
+            MetadataSources sources = new MetadataSources(registry);
+            entities.forEach(sources::addAnnotatedClass);
+            new SchemaUpdate().execute(EnumSet.of(TargetType.DATABASE), sources.buildMetadata());
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.incident.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "incident.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    // Service name -> shard name; services not listed are hashed across all shards
+    private Map<String, String> services = new HashMap<>();
+
+    // Upper bound on (page + 1) * size for listings merged across shards; each shard loads that many rows
+    private int maxScatterWindow = 10_000;
+
+    // Fail startup if an incident is not on the shard owning its service or lacks that shard in its id
+    private boolean verifyOnStartup = true;
+
+    // Move such incidents (e.g. created before sharding was enabled) to their shard before verifying
+    private boolean migrateOnStartup;
+
+    @Data
+    public static class Shard {
+
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+    }
+}
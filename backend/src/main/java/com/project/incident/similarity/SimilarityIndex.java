@@ -0,0 +1,242 @@
+package com.project.incident.similarity;
+
+import com.project.incident.model.Incident;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory MinHash index over incident title and summary.
+ * <p>
+ * Text is split into character 3-grams and reduced to a fixed-size MinHash signature, whose
+ * agreement estimates the Jaccard similarity of the two 3-gram sets. Signatures are banded
+ * (locality-sensitive hashing) so a lookup only scores incidents sharing at least one band,
+ * keeping queries fast as the index grows. Only incidents created before the source incident are
+ * returned, so results point at prior occurrences. The index holds at most {@code max-entries}
+ * incidents, evicting the oldest by creation time.
+ */
+@Component
+@Slf4j
+public class SimilarityIndex {
+
+    private static final int SHINGLE_LENGTH = 3;
+    private static final int MAX_TEXT_LENGTH = 2_000;
+
+    // 16 bands of 2 rows: incidents above ~25% similarity are very likely to share a band
+    private static final int BANDS = 16;
+    private static final int ROWS = 2;
+    private static final int HASHES = BANDS * ROWS;
+    private static final long[] SEEDS = new SplittableRandom(42).longs(HASHES).toArray();
+
+    private final int maxEntries;
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Map<Long, Set<UUID>> buckets = new HashMap<>();
+    private final TreeSet<Entry> byCreatedAt =
+            new TreeSet<>(Comparator.comparing(Entry::createdAt).thenComparing(Entry::id));
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SimilarityIndex(@Value("${incident.similarity.max-entries:20000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public void add(Incident incident) {
+        // Hash outside the lock; only the bookkeeping below needs exclusive access
+        Entry entry = new Entry(
+                incident.getId(),
+                incident.getTitle(),
+                incident.getService(),
+                incident.getSeverity(),
+                incident.getStatus(),
+                incident.getCreatedAt(),
+                incident.getUpdatedAt(),
+                signature(incident.getTitle(), incident.getSummary())
+        );
+
+        lock.writeLock().lock();
+        try {
+            Entry existing = entries.get(entry.id());
+            if (existing != null) {
+                // A background rebuild can race with live updates; keep the newest version
+                if (existing.updatedAt().isAfter(entry.updatedAt())) {
+                    return;
+                }
+                remove(existing);
+            } else if (entries.size() >= maxEntries) {
+                Entry oldest = byCreatedAt.first();
+                if (!entry.createdAt().isAfter(oldest.createdAt())) {
+                    return;
+                }
+                remove(oldest);
+            }
+            insert(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the prior incidents most similar to an indexed incident, or empty if it is not indexed.
+     */
+    public Optional<List<Match>> findSimilar(UUID id, int limit) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(id);
+            return entry == null ? Optional.empty() : Optional.of(search(id, entry.signature(), entry.createdAt(), limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Match> findSimilar(Incident incident, int limit) {
+        int[] signature = signature(incident.getTitle(), incident.getSummary());
+        lock.readLock().lock();
+        try {
+            return search(incident.getId(), signature, incident.getCreatedAt(), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Match> search(UUID id, int[] signature, LocalDateTime createdBefore, int limit) {
+        Set<UUID> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            Set<UUID> bucket = buckets.get(bandKey(signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        candidates.remove(id);
+
+        return candidates.stream()
+                .map(entries::get)
+                .filter(candidate -> createdBefore == null || candidate.createdAt().isBefore(createdBefore))
+                .map(candidate -> new Match(candidate, similarity(signature, candidate.signature())))
+                .sorted(Comparator.comparingDouble(Match::similarity).reversed()
+                        .thenComparing(match -> match.entry().createdAt(), Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    private void insert(Entry entry) {
+        entries.put(entry.id(), entry);
+        byCreatedAt.add(entry);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(bandKey(entry.signature(), band), key -> new HashSet<>()).add(entry.id());
+        }
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry.id());
+        byCreatedAt.remove(entry);
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(entry.signature(), band);
+            Set<UUID> bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(entry.id()) && bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    static int[] signature(String title, String summary) {
+        String text = normalize(title + " " + (summary != null ? summary : ""));
+        if (text.length() < SHINGLE_LENGTH) {
+            text = (text + "   ").substring(0, SHINGLE_LENGTH);
+        }
+
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int i = 0; i + SHINGLE_LENGTH <= text.length(); i++) {
+            long shingle = text.charAt(i)
+                    | (long) text.charAt(i + 1) << 16
+                    | (long) text.charAt(i + 2) << 32;
+            for (int h = 0; h < HASHES; h++) {
+                int value = (int) mix(shingle ^ SEEDS[h]);
+                if (value < signature[h]) {
+                    signature[h] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / HASHES;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long hash = band;
+        for (int row = 0; row < ROWS; row++) {
+            hash = hash * 31 + signature[band * ROWS + row];
+        }
+        return mix(hash);
+    }
+
+    // Lower-case and collapse everything but letters and digits to single spaces
+    private static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(Math.min(text.length(), MAX_TEXT_LENGTH));
+        boolean space = true;
+        for (int i = 0; i < text.length() && normalized.length() < MAX_TEXT_LENGTH; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+                space = false;
+            } else if (!space) {
+                normalized.append(' ');
+                space = true;
+            }
+        }
+        return normalized.toString().trim();
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public record Match(Entry entry, double similarity) {
+    }
+
+    public record Entry(
+            UUID id,
+            String title,
+            String service,
+            Incident.Severity severity,
+            Incident.Status status,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            int[] signature
+    ) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.incident.similarity;
+
+import com.project.incident.model.Incident;
+import com.project.incident.repository.IncidentRepository;
+import com.project.incident.sharding.ShardContext;
+import com.project.incident.sharding.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the {@link SimilarityIndex} from the database after startup on a background thread,
+ * newest incidents first, so the application serves traffic while the index fills.
+ */
+@Component
+@Slf4j
+public class SimilarityIndexLoader {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final IncidentRepository incidentRepository;
+    private final SimilarityIndex similarityIndex;
+    private final ObjectProvider<ShardRouter> shardRouter;
+    private final int maxEntries;
+
+    public SimilarityIndexLoader(
+            IncidentRepository incidentRepository,
+            SimilarityIndex similarityIndex,
+            ObjectProvider<ShardRouter> shardRouter,
+            @Value("${incident.similarity.max-entries:20000}") int maxEntries
+    ) {
+        this.incidentRepository = incidentRepository;
+        this.similarityIndex = similarityIndex;
+        this.shardRouter = shardRouter;
+        this.maxEntries = maxEntries;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Thread.ofVirtual().name("similarity-index-loader").start(this::load);
+    }
+
+    private void load() {
+        long started = System.currentTimeMillis();
+        try {
+            ShardRouter router = shardRouter.getIfAvailable();
+            if (router == null) {
+                loadShard();
+            } else {
+                // The index keeps the newest incidents overall, so each shard contributes up to the full budget
+                for (int shard = 0; shard < router.getShardCount(); shard++) {
+                    ShardContext.callOn(shard, this::loadShard);
+                }
+            }
+            log.info("Similarity index rebuilt with {} incidents in {} ms",
+                    similarityIndex.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException ex) {
+            log.error("Failed to rebuild similarity index: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private Integer loadShard() {
+        int loaded = 0;
+        Page<Incident> page;
+        int pageNumber = 0;
+        do {
+            page = incidentRepository.findAll(
+                    PageRequest.of(pageNumber++, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"))
+            );
+            for (Incident incident : page.getContent()) {
+                similarityIndex.add(incident);
+            }
+            loaded += page.getNumberOfElements();
+        } while (page.hasNext() && loaded < maxEntries);
+        return loaded;
+    }
+}
@@ -0,0 +1,79 @@
+package com.project.incident.specification;
+
+import com.project.incident.model.Incident;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Normalized incident filter. Parameters are trimmed and lower-cased once, and the combination of
+ * active filters is exposed as a bitmask ({@link #getShape()}) so it can select a fixed query template.
+ */
+@Getter
+public class IncidentFilter {
+
+    public static final int SEARCH = 1;
+    public static final int SERVICE = 1 << 1;
+    public static final int SEVERITY = 1 << 2;
+    public static final int STATUS = 1 << 3;
+
+    public static final int SHAPE_COUNT = 1 << 4;
+
+    private final String searchPattern;
+    private final String service;
+    private final Set<Incident.Severity> severities;
+    private final Set<Incident.Status> statuses;
+    private final int shape;
+
+    private IncidentFilter(
+            String searchPattern,
+            String service,
+            Set<Incident.Severity> severities,
+            Set<Incident.Status> statuses
+    ) {
+        this.searchPattern = searchPattern;
+        this.service = service;
+        this.severities = severities;
+        this.statuses = statuses;
+        this.shape = (searchPattern != null ? SEARCH : 0)
+                | (service != null ? SERVICE : 0)
+                | (severities != null ? SEVERITY : 0)
+                | (statuses != null ? STATUS : 0);
+    }
+
+    public static IncidentFilter of(
+            String search,
+            String service,
+            Collection<Incident.Severity> severities,
+            Collection<Incident.Status> statuses
+    ) {
+        String searchPattern = search != null && !search.trim().isEmpty()
+                ? "%" + search.toLowerCase() + "%"
+                : null;
+        String normalizedService = service != null && !service.trim().isEmpty()
+                ? service.toLowerCase()
+                : null;
+
+        return new IncidentFilter(
+                searchPattern,
+                normalizedService,
+                normalize(severities, Incident.Severity.class),
+                normalize(statuses, Incident.Status.class)
+        );
+    }
+
+    public boolean has(int filter) {
+        return (shape & filter) != 0;
+    }
+
+    // An empty selection or one covering every constant filters nothing, so it is dropped from the shape
+    private static <E extends Enum<E>> Set<E> normalize(Collection<E> values, Class<E> type) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        EnumSet<E> set = EnumSet.copyOf(values);
+        return set.size() == type.getEnumConstants().length ? null : set;
+    }
+}
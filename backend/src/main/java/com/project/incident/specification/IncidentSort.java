@@ -0,0 +1,41 @@
+package com.project.incident.specification;
+
+import org.springframework.data.domain.Sort;
+
+public class IncidentSort {
+
+    public static final String DEFAULT_FIELD = "createdAt";
+
+    public static Sort.Direction direction(String sortDir) {
+        return "desc".equalsIgnoreCase(sortDir)
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+    }
+
+    public static String mapSortField(String sortBy) {
+        if (sortBy == null || sortBy.trim().isEmpty()) {
+            return DEFAULT_FIELD;
+        }
+
+        // Map common frontend column names to entity fields
+        return switch (sortBy.toLowerCase()) {
+            case "title" -> "title";
+            case "severity" -> "severity";
+            case "status" -> "status";
+            case "createdat" -> "createdAt";
+            case "created_at" -> "createdAt";
+            case "owner" -> "owner";
+            case "service" -> "service";
+            default -> DEFAULT_FIELD;
+        };
+    }
+
+    public static String toColumn(String fieldName) {
+        // Map entity fields to column names for native (SQL) queries
+        return switch (fieldName) {
+            case "createdAt" -> "created_at";
+            case "updatedAt" -> "updated_at";
+            default -> fieldName;
+        };
+    }
+}
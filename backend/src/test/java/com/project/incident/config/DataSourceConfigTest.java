@@ -0,0 +1,51 @@
+package com.project.incident.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataSourceConfigTest {
+
+    // Mirrors application.yaml: both a JDBC and an R2DBC url are configured
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    R2dbcAutoConfiguration.class,
+                    DataSourceAutoConfiguration.class
+            ))
+            .withUserConfiguration(DataSourceConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:postgresql://localhost:5432/incident_db",
+                    "spring.datasource.username=incident",
+                    "spring.datasource.hikari.data-source-properties.prepareThreshold=1",
+                    "spring.r2dbc.url=r2dbc:postgresql://localhost:5432/incident_db"
+            );
+
+    @Test
+    void jdbcDataSourceExistsAlongsideR2dbcConnectionFactory() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(ConnectionFactory.class);
+            assertThat(context).hasSingleBean(DataSource.class);
+
+            HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+            assertThat(dataSource.getJdbcUrl()).isEqualTo("jdbc:postgresql://localhost:5432/incident_db");
+            assertThat(dataSource.getUsername()).isEqualTo("incident");
+            assertThat(dataSource.getDataSourceProperties()).containsEntry("prepareThreshold", "1");
+        });
+    }
+
+    @Test
+    void backsOffWhenShardingIsEnabled() {
+        contextRunner.withPropertyValues("incident.sharding.enabled=true")
+                .run(context -> assertThat(context).doesNotHaveBean(DataSource.class));
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.incident.controller;
+
+import com.project.incident.repository.ReactiveIncidentRepository;
+import com.project.incident.service.impl.ReactiveIncidentServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ReactiveIncidentControllerRegistrationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(DatabaseClient.class, () -> mock(DatabaseClient.class))
+            .withUserConfiguration(
+                    ReactiveIncidentRepository.class,
+                    ReactiveIncidentServiceImpl.class,
+                    ReactiveIncidentController.class
+            );
+
+    @Test
+    void registeredWithoutSharding() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(ReactiveIncidentController.class);
+            assertThat(context).hasSingleBean(ReactiveIncidentServiceImpl.class);
+            assertThat(context).hasSingleBean(ReactiveIncidentRepository.class);
+        });
+    }
+
+    @Test
+    void notRegisteredWhenShardingIsEnabled() {
+        contextRunner.withPropertyValues("incident.sharding.enabled=true").run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).doesNotHaveBean(ReactiveIncidentController.class);
+            assertThat(context).doesNotHaveBean(ReactiveIncidentServiceImpl.class);
+            assertThat(context).doesNotHaveBean(ReactiveIncidentRepository.class);
+        });
+    }
+}
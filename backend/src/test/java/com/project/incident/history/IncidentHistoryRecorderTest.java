@@ -0,0 +1,145 @@
+package com.project.incident.history;
+
+import com.project.incident.model.IncidentTransition;
+import com.project.incident.repository.IncidentTransitionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IncidentHistoryRecorderTest {
+
+    private final IncidentTransitionRepository transitionRepository = mock(IncidentTransitionRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private IncidentHistoryRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        HistoryProperties properties = new HistoryProperties();
+        properties.setBufferCapacity(2);
+        recorder = new IncidentHistoryRecorder(transitionRepository, transactionManager, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void overflowIsWrittenInNewTransactionAfterCommit() {
+        IncidentTransition first = transition("OPEN", "MITIGATED");
+        IncidentTransition second = transition("SEV3", "SEV1");
+        IncidentTransition third = transition("alice", "bob");
+
+        commit(() -> recorder.record(List.of(first, second, third)));
+
+        verify(transitionRepository).saveAll(List.of(third));
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        assertThat(recorder.pending()).isEqualTo(2);
+
+        recorder.flush();
+
+        verify(transitionRepository).saveAll(List.of(first, second));
+        assertThat(recorder.pending()).isZero();
+    }
+
+    @Test
+    void nothingIsQueuedBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        recorder.record(List.of(transition("OPEN", "RESOLVED")));
+
+        assertThat(recorder.pending()).isZero();
+        verify(transitionRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void failedFlushKeepsRowsBufferedAndBacksOff() {
+        when(transitionRepository.saveAll(any())).thenThrow(new IllegalStateException("database unavailable"));
+        IncidentTransition first = transition("OPEN", "MITIGATED");
+        IncidentTransition second = transition("MITIGATED", "RESOLVED");
+        first.setId(UUID.randomUUID());
+        recorder.record(List.of(first, second));
+
+        recorder.flush();
+
+        assertThat(recorder.pending()).isEqualTo(2);
+        assertThat(first.getId()).isNull();
+
+        // Still inside the backoff window, so no second attempt
+        recorder.flush();
+        verify(transitionRepository, times(1)).saveAll(any());
+    }
+
+    @Test
+    void shutdownDrainDoesNotOverlapScheduledFlush() throws Exception {
+        AtomicInteger writing = new AtomicInteger();
+        AtomicInteger maxWriting = new AtomicInteger();
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        when(transitionRepository.saveAll(any())).thenAnswer(invocation -> {
+            maxWriting.accumulateAndGet(writing.incrementAndGet(), Math::max);
+            firstWriteStarted.countDown();
+            Thread.sleep(50);
+            writing.decrementAndGet();
+            return List.of();
+        });
+        recorder.record(List.of(transition("OPEN", "MITIGATED")));
+
+        Thread scheduled = new Thread(recorder::flush);
+        scheduled.start();
+        firstWriteStarted.await(5, TimeUnit.SECONDS);
+        recorder.record(List.of(transition("MITIGATED", "RESOLVED")));
+        recorder.shutdown();
+        scheduled.join(5_000);
+
+        assertThat(maxWriting.get()).isEqualTo(1);
+        assertThat(recorder.pending()).isZero();
+        verify(transitionRepository, times(2)).saveAll(any());
+    }
+
+    private static void commit(Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static IncidentTransition transition(String oldValue, String newValue) {
+        return IncidentTransition.builder()
+                .incidentId(UUID.randomUUID())
+                .field(IncidentTransition.Field.STATUS)
+                .oldValue(oldValue)
+                .newValue(newValue)
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.project.incident.repository;
+
+import com.project.incident.model.Incident;
+import com.project.incident.specification.IncidentFilter;
+import com.project.incident.specification.IncidentSort;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IncidentQueryTemplatesTest {
+
+    private static final List<String> SORT_INPUTS = Arrays.asList(
+            null, "", "title", "severity", "status", "createdAt", "created_at", "CREATEDAT",
+            "owner", "service", "updatedAt", "unknown"
+    );
+
+    @Test
+    void everyMappedSortFieldHasTemplateForEveryShape() {
+        for (String input : SORT_INPUTS) {
+            String field = IncidentSort.mapSortField(input);
+            for (int shape = 0; shape < IncidentFilter.SHAPE_COUNT; shape++) {
+                for (Sort.Direction direction : Sort.Direction.values()) {
+                    assertThat(IncidentQueryTemplates.select(shape, field, direction, false))
+                            .startsWith("SELECT i FROM Incident i")
+                            .contains("ORDER BY");
+                    assertThat(IncidentQueryTemplates.select(shape, field, direction, true))
+                            .startsWith("SELECT i FROM Incident i")
+                            .endsWith(", i.id " + direction.name());
+                }
+            }
+        }
+    }
+
+    @Test
+    void unsupportedSortFieldIsRejected() {
+        assertThatThrownBy(() -> IncidentQueryTemplates.select(0, "summary", Sort.Direction.ASC, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("summary");
+    }
+
+    @Test
+    void templatesAreReusedAcrossCalls() {
+        int shape = IncidentFilter.SEVERITY | IncidentFilter.STATUS;
+
+        assertThat(IncidentQueryTemplates.select(shape, "title", Sort.Direction.DESC, false))
+                .isSameAs(IncidentQueryTemplates.select(shape, "title", Sort.Direction.DESC, false));
+        assertThat(IncidentQueryTemplates.count(shape)).isSameAs(IncidentQueryTemplates.count(shape));
+    }
+
+    @Test
+    void enumFiltersUseFixedArity() {
+        String jpql = IncidentQueryTemplates.select(
+                IncidentFilter.SEVERITY | IncidentFilter.STATUS, "createdAt", Sort.Direction.ASC, false);
+
+        for (int i = 0; i < IncidentQueryTemplates.SEVERITY_ARITY; i++) {
+            assertThat(jpql).contains(":severity" + i);
+        }
+        for (int i = 0; i < IncidentQueryTemplates.STATUS_ARITY; i++) {
+            assertThat(jpql).contains(":status" + i);
+        }
+        assertThat(jpql).doesNotContain(":severity" + IncidentQueryTemplates.SEVERITY_ARITY);
+    }
+
+    @Test
+    void codePointOrderCollatesTextColumnsOnly() {
+        assertThat(IncidentQueryTemplates.select(0, "owner", Sort.Direction.ASC, true))
+                .endsWith(" ORDER BY collate(i.owner as ucs_basic) ASC, i.id ASC");
+        assertThat(IncidentQueryTemplates.select(0, "severity", Sort.Direction.DESC, true))
+                .endsWith(" ORDER BY i.severity DESC, i.id DESC");
+        assertThat(IncidentQueryTemplates.select(0, "owner", Sort.Direction.ASC, false))
+                .endsWith(" ORDER BY i.owner ASC");
+    }
+
+    @Test
+    void countTemplateOmitsAbsentFilters() {
+        assertThat(IncidentQueryTemplates.count(0)).isEqualTo("SELECT COUNT(i) FROM Incident i");
+        assertThat(IncidentQueryTemplates.count(IncidentFilter.SERVICE)).contains(":service").doesNotContain(":search");
+    }
+
+    @Test
+    void padRepeatsFirstValueUpToArity() {
+        List<Incident.Severity> padded = IncidentQueryTemplates.pad(
+                EnumSet.of(Incident.Severity.SEV2, Incident.Severity.SEV4), IncidentQueryTemplates.SEVERITY_ARITY);
+
+        assertThat(padded).containsExactly(
+                Incident.Severity.SEV2, Incident.Severity.SEV4, Incident.Severity.SEV2, Incident.Severity.SEV2);
+    }
+
+    @Test
+    void padLeavesFullListUnchanged() {
+        List<Incident.Status> padded = IncidentQueryTemplates.pad(
+                EnumSet.allOf(Incident.Status.class), IncidentQueryTemplates.STATUS_ARITY);
+
+        assertThat(padded).containsExactly(Incident.Status.values());
+    }
+}
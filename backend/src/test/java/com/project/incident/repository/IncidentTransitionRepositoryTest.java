@@ -0,0 +1,146 @@
+package com.project.incident.repository;
+
+import com.project.incident.model.Incident;
+import com.project.incident.model.IncidentTransition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Runs the native resolution-metrics query against PostgreSQL.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class IncidentTransitionRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Autowired
+    private IncidentRepository incidentRepository;
+
+    @Autowired
+    private IncidentTransitionRepository transitionRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<IncidentTransition> transitions = new ArrayList<>();
+
+        // Mitigated after 10 minutes, resolved after 30
+        UUID first = incident("payments");
+        transitions.add(status(first, null, "OPEN", 0));
+        transitions.add(severity(first, "SEV3", "SEV1", 2));
+        transitions.add(status(first, "OPEN", "MITIGATED", 10));
+        transitions.add(status(first, "MITIGATED", "OPEN", 15));
+        transitions.add(status(first, "OPEN", "MITIGATED", 20));
+        transitions.add(status(first, "MITIGATED", "RESOLVED", 30));
+
+        // Resolved straight from OPEN after an hour, which also counts as mitigated
+        UUID second = incident("payments");
+        transitions.add(status(second, null, "OPEN", 0));
+        transitions.add(status(second, "OPEN", "RESOLVED", 60));
+
+        // Mitigated after 5 minutes, still unresolved
+        UUID third = incident("search");
+        transitions.add(status(third, null, "OPEN", 0));
+        transitions.add(status(third, "OPEN", "MITIGATED", 5));
+
+        // Never mitigated
+        UUID fourth = incident("auth");
+        transitions.add(status(fourth, null, "OPEN", 0));
+
+        transitionRepository.saveAllAndFlush(transitions);
+    }
+
+    @Test
+    void computesPercentilesPerService() {
+        List<ResolutionMetricsView> metrics = transitionRepository.findResolutionMetrics();
+
+        // auth has no mitigated or resolved incident, so it is not listed
+        assertThat(metrics).extracting(ResolutionMetricsView::getService).containsExactly("payments", "search");
+
+        ResolutionMetricsView payments = metrics.get(0);
+        assertThat(payments.getMitigatedCount()).isEqualTo(2);
+        assertThat(payments.getMttmP50()).isCloseTo(2100.0, within(0.001));
+        assertThat(payments.getMttmP90()).isCloseTo(3300.0, within(0.001));
+        assertThat(payments.getResolvedCount()).isEqualTo(2);
+        assertThat(payments.getMttrP50()).isCloseTo(2700.0, within(0.001));
+        assertThat(payments.getMttrP99()).isCloseTo(3582.0, within(0.001));
+
+        ResolutionMetricsView search = metrics.get(1);
+        assertThat(search.getMitigatedCount()).isEqualTo(1);
+        assertThat(search.getMttmP50()).isCloseTo(300.0, within(0.001));
+        assertThat(search.getResolvedCount()).isZero();
+        assertThat(search.getMttrP50()).isNull();
+    }
+
+    @Test
+    void serviceFilterIsCaseInsensitive() {
+        List<ResolutionMetricsView> metrics = transitionRepository.findResolutionMetricsByService("PAYMENTS");
+
+        assertThat(metrics).singleElement().satisfies(payments -> {
+            assertThat(payments.getService()).isEqualTo("payments");
+            assertThat(payments.getMitigatedCount()).isEqualTo(2);
+            assertThat(payments.getResolvedCount()).isEqualTo(2);
+            assertThat(payments.getMttmP50()).isCloseTo(2100.0, within(0.001));
+        });
+    }
+
+    @Test
+    void unknownServiceHasNoMetrics() {
+        assertThat(transitionRepository.findResolutionMetricsByService("billing")).isEmpty();
+    }
+
+    private UUID incident(String service) {
+        return incidentRepository.saveAndFlush(Incident.builder()
+                .title("Incident on " + service)
+                .service(service)
+                .severity(Incident.Severity.SEV2)
+                .status(Incident.Status.OPEN)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build()).getId();
+    }
+
+    private static IncidentTransition status(UUID incidentId, String oldValue, String newValue, int minutes) {
+        return transition(incidentId, IncidentTransition.Field.STATUS, oldValue, newValue, minutes);
+    }
+
+    private static IncidentTransition severity(UUID incidentId, String oldValue, String newValue, int minutes) {
+        return transition(incidentId, IncidentTransition.Field.SEVERITY, oldValue, newValue, minutes);
+    }
+
+    private static IncidentTransition transition(
+            UUID incidentId,
+            IncidentTransition.Field field,
+            String oldValue,
+            String newValue,
+            int minutes
+    ) {
+        return IncidentTransition.builder()
+                .incidentId(incidentId)
+                .field(field)
+                .oldValue(oldValue)
+                .newValue(newValue)
+                .changedAt(CREATED_AT.plusMinutes(minutes))
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.project.incident.repository;
+
+import com.project.incident.model.Incident;
+import com.project.incident.specification.IncidentFilter;
+import com.project.incident.specification.IncidentSort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveIncidentRepositoryTest {
+
+    private static final String SELECT = "SELECT id, title, service, severity, status, owner, summary, created_at, updated_at"
+            + " FROM incident.incidents";
+
+    private final DatabaseClient databaseClient = mock(DatabaseClient.class);
+    private final DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+    private final ReactiveIncidentRepository repository = new ReactiveIncidentRepository(databaseClient);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RowsFetchSpec<Object> rows = mock(RowsFetchSpec.class);
+        when(rows.all()).thenReturn(Flux.empty());
+        when(rows.one()).thenReturn(Mono.empty());
+
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.filter(any(Function.class))).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.map(any(Function.class))).thenReturn(rows);
+    }
+
+    @Test
+    void unfilteredPageHasNoWhereClause() {
+        repository.findAll(filter(null, null, null, null), "createdAt", Sort.Direction.DESC, 20, 10).blockLast();
+
+        assertThat(executedSql()).isEqualTo(SELECT + " ORDER BY created_at DESC LIMIT :limit OFFSET :offset");
+        verify(spec).bind("limit", 10);
+        verify(spec).bind("offset", 20L);
+    }
+
+    @Test
+    void zeroLimitOmitsLimitClause() {
+        repository.findAll(filter(null, null, null, null), "title", Sort.Direction.ASC, 0, 0).blockLast();
+
+        assertThat(executedSql()).isEqualTo(SELECT + " ORDER BY title ASC");
+        verify(spec, never()).bind(eq("limit"), any());
+    }
+
+    @Test
+    void everyFilterIsBound() {
+        IncidentFilter filter = filter("TimeOut", "Payments",
+                List.of(Incident.Severity.SEV2, Incident.Severity.SEV1), List.of(Incident.Status.OPEN));
+
+        repository.findAll(filter, "owner", Sort.Direction.ASC, 0, 5).blockLast();
+
+        assertThat(executedSql()).isEqualTo(SELECT
+                + " WHERE (LOWER(title) LIKE :search OR LOWER(service) LIKE :search"
+                + " OR LOWER(owner) LIKE :search OR LOWER(summary) LIKE :search)"
+                + " AND LOWER(service) = :service"
+                + " AND severity = ANY(:severities)"
+                + " AND status = ANY(:statuses)"
+                + " ORDER BY owner ASC LIMIT :limit OFFSET :offset");
+        verify(spec).bind("search", "%timeout%");
+        verify(spec).bind("service", "payments");
+        verify(spec).bind("severities", new String[]{"SEV1", "SEV2"});
+        verify(spec).bind("statuses", new String[]{"OPEN"});
+    }
+
+    @Test
+    void textFiltersMatchTheJpaTemplates() {
+        IncidentFilter filter = filter("timeout", "payments", null, null);
+
+        repository.count(filter).block();
+
+        // The JPA template qualifies columns with its alias; otherwise the predicates are identical
+        String jpqlWhere = IncidentQueryTemplates.count(filter.getShape())
+                .substring("SELECT COUNT(i) FROM Incident i".length())
+                .replace("i.", "");
+        assertThat(executedSql()).isEqualTo("SELECT COUNT(*) AS total FROM incident.incidents" + jpqlWhere);
+    }
+
+    @Test
+    void everySortOptionMapsToAColumn() {
+        for (String sortBy : List.of("title", "severity", "status", "createdAt", "owner", "service")) {
+            String field = IncidentSort.mapSortField(sortBy);
+            repository.findAll(filter(null, null, null, null), field, Sort.Direction.ASC, 0, 0).blockLast();
+
+            assertThat(IncidentQueryTemplates.select(0, field, Sort.Direction.ASC, false))
+                    .endsWith("ORDER BY i." + field + " ASC");
+            assertThat(lastExecutedSql()).endsWith("ORDER BY " + IncidentSort.toColumn(field) + " ASC");
+        }
+    }
+
+    private String executedSql() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        return sql.getValue();
+    }
+
+    private String lastExecutedSql() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient, atLeastOnce()).sql(sql.capture());
+        return sql.getValue();
+    }
+
+    private static IncidentFilter filter(
+            String search,
+            String service,
+            List<Incident.Severity> severities,
+            List<Incident.Status> statuses
+    ) {
+        return IncidentFilter.of(search, service, severities, statuses);
+    }
+}
@@ -0,0 +1,176 @@
+package com.project.incident.service.impl;
+
+import com.project.incident.dto.IncidentRequest;
+import com.project.incident.dto.UpdateIncidentRequest;
+import com.project.incident.exception.IncidentNotFoundException;
+import com.project.incident.history.IncidentHistoryRecorder;
+import com.project.incident.model.Incident;
+import com.project.incident.model.IncidentTransition;
+import com.project.incident.repository.IncidentRepository;
+import com.project.incident.repository.IncidentTransitionRepository;
+import com.project.incident.similarity.SimilarityIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IncidentServiceImplTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private final IncidentRepository incidentRepository = mock(IncidentRepository.class);
+    private final IncidentTransitionRepository transitionRepository = mock(IncidentTransitionRepository.class);
+    private final IncidentHistoryRecorder historyRecorder = mock(IncidentHistoryRecorder.class);
+    private final SimilarityIndex similarityIndex = mock(SimilarityIndex.class);
+    private final IncidentServiceImpl service =
+            new IncidentServiceImpl(incidentRepository, transitionRepository, historyRecorder, similarityIndex);
+
+    private final UUID id = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        when(incidentRepository.save(any(Incident.class))).thenAnswer(invocation -> {
+            Incident incident = invocation.getArgument(0);
+            if (incident.getId() == null) {
+                incident.setId(id);
+                incident.setCreatedAt(CREATED_AT);
+            }
+            return incident;
+        });
+    }
+
+    @Test
+    void createRecordsInitialValuesAtCreationTime() {
+        service.createIncident(IncidentRequest.builder()
+                .title("Checkout failing")
+                .service("payments")
+                .severity(Incident.Severity.SEV2)
+                .status(Incident.Status.OPEN)
+                .owner("alice")
+                .build());
+
+        assertThat(recorded())
+                .extracting(IncidentTransition::getIncidentId, IncidentTransition::getField,
+                        IncidentTransition::getOldValue, IncidentTransition::getNewValue,
+                        IncidentTransition::getChangedAt)
+                .containsExactly(
+                        tuple(id, IncidentTransition.Field.STATUS, null, "OPEN", CREATED_AT),
+                        tuple(id, IncidentTransition.Field.SEVERITY, null, "SEV2", CREATED_AT),
+                        tuple(id, IncidentTransition.Field.OWNER, null, "alice", CREATED_AT));
+    }
+
+    @Test
+    void createWithoutOwnerRecordsNoOwnerTransition() {
+        service.createIncident(IncidentRequest.builder()
+                .title("Checkout failing")
+                .service("payments")
+                .severity(Incident.Severity.SEV2)
+                .status(Incident.Status.OPEN)
+                .build());
+
+        assertThat(recorded()).extracting(IncidentTransition::getField)
+                .containsExactly(IncidentTransition.Field.STATUS, IncidentTransition.Field.SEVERITY);
+    }
+
+    @Test
+    void updateRecordsOnlyChangedTrackedFields() {
+        givenExisting();
+
+        service.updateIncident(id, UpdateIncidentRequest.builder()
+                .status(Incident.Status.MITIGATED)
+                .severity(Incident.Severity.SEV2)
+                .owner("bob")
+                .title("Checkout failing for EU users")
+                .build());
+
+        List<IncidentTransition> transitions = recorded();
+        assertThat(transitions)
+                .extracting(IncidentTransition::getField, IncidentTransition::getOldValue, IncidentTransition::getNewValue)
+                .containsExactly(
+                        tuple(IncidentTransition.Field.STATUS, "OPEN", "MITIGATED"),
+                        tuple(IncidentTransition.Field.OWNER, "alice", "bob"));
+        assertThat(transitions).allSatisfy(transition -> {
+            assertThat(transition.getIncidentId()).isEqualTo(id);
+            assertThat(transition.getChangedAt()).isAfter(CREATED_AT);
+        });
+    }
+
+    @Test
+    void updateWithoutTrackedFieldsRecordsNothing() {
+        givenExisting();
+
+        service.updateIncident(id, UpdateIncidentRequest.builder()
+                .title("Checkout failing for EU users")
+                .summary("Only affects SEPA payments")
+                .build());
+
+        assertThat(recorded()).isEmpty();
+    }
+
+    @Test
+    void updateFromUnsetOwnerRecordsNullOldValue() {
+        Incident incident = givenExisting();
+        incident.setOwner(null);
+
+        service.updateIncident(id, UpdateIncidentRequest.builder().owner("carol").build());
+
+        assertThat(recorded())
+                .extracting(IncidentTransition::getField, IncidentTransition::getOldValue, IncidentTransition::getNewValue)
+                .containsExactly(tuple(IncidentTransition.Field.OWNER, null, "carol"));
+    }
+
+    @Test
+    void updateOfMissingIncidentRecordsNothing() {
+        when(incidentRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.updateIncident(id, UpdateIncidentRequest.builder()
+                .status(Incident.Status.RESOLVED)
+                .build()))
+                .isInstanceOf(IncidentNotFoundException.class);
+        verify(historyRecorder, never()).record(any());
+    }
+
+    @Test
+    void metricsUseServiceQueryOnlyForNonBlankService() {
+        service.getResolutionMetrics(" ");
+        verify(transitionRepository).findResolutionMetrics();
+
+        service.getResolutionMetrics("payments");
+        verify(transitionRepository).findResolutionMetricsByService("payments");
+    }
+
+    private Incident givenExisting() {
+        Incident incident = Incident.builder()
+                .id(id)
+                .title("Checkout failing")
+                .service("payments")
+                .severity(Incident.Severity.SEV2)
+                .status(Incident.Status.OPEN)
+                .owner("alice")
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build();
+        when(incidentRepository.findById(id)).thenReturn(Optional.of(incident));
+        return incident;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<IncidentTransition> recorded() {
+        ArgumentCaptor<List<IncidentTransition>> transitions = ArgumentCaptor.forClass(List.class);
+        verify(historyRecorder).record(transitions.capture());
+        return transitions.getValue();
+    }
+}
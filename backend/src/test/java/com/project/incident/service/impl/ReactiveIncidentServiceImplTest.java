@@ -0,0 +1,103 @@
+package com.project.incident.service.impl;
+
+import com.project.incident.dto.IncidentResponse;
+import com.project.incident.dto.PageResponse;
+import com.project.incident.exception.IncidentNotFoundException;
+import com.project.incident.model.Incident;
+import com.project.incident.repository.ReactiveIncidentRepository;
+import com.project.incident.specification.IncidentFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ReactiveIncidentServiceImplTest {
+
+    private final ReactiveIncidentRepository repository = mock(ReactiveIncidentRepository.class);
+    private final ReactiveIncidentServiceImpl service = new ReactiveIncidentServiceImpl(repository);
+
+    @Test
+    void negativePageIsRejected() {
+        assertThatThrownBy(() -> service.getIncidents(null, null, null, null, null, null, -1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void pageSizeBelowOneIsRejected() {
+        assertThatThrownBy(() -> service.getIncidents(null, null, null, null, null, null, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void pageIsTranslatedToOffsetAndLimit() {
+        Incident incident = incident();
+        when(repository.findAll(any(), anyString(), any(), anyLong(), anyInt())).thenReturn(Flux.just(incident));
+        when(repository.count(any())).thenReturn(Mono.just(21L));
+
+        PageResponse<IncidentResponse> page =
+                service.getIncidents(null, "Payments", null, null, "created_at", "desc", 2, 10).block();
+
+        verify(repository).findAll(any(IncidentFilter.class), eq("createdAt"), eq(Sort.Direction.DESC), eq(20L), eq(10));
+        assertThat(page.getContent()).extracting(IncidentResponse::getId).containsExactly(incident.getId());
+        assertThat(page.getTotalElements()).isEqualTo(21);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(page.isFirst()).isFalse();
+        assertThat(page.isLast()).isTrue();
+    }
+
+    @Test
+    void negativeStreamLimitIsRejected() {
+        assertThatThrownBy(() -> service.streamIncidents(null, null, null, null, null, null, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void zeroStreamLimitStreamsEverything() {
+        when(repository.findAll(any(), anyString(), any(), anyLong(), anyInt())).thenReturn(Flux.empty());
+
+        assertThat(service.streamIncidents(null, null, null, null, "title", "asc", 0).collectList().block()).isEmpty();
+
+        verify(repository).findAll(any(IncidentFilter.class), eq("title"), eq(Sort.Direction.ASC), eq(0L), eq(0));
+    }
+
+    @Test
+    void missingIncidentSignalsNotFound() {
+        UUID id = UUID.randomUUID();
+        when(repository.findById(id)).thenReturn(Mono.empty());
+
+        assertThatThrownBy(() -> service.getIncidentById(id).block())
+                .isInstanceOf(IncidentNotFoundException.class)
+                .hasMessageContaining(id.toString());
+    }
+
+    private static Incident incident() {
+        return Incident.builder()
+                .id(UUID.randomUUID())
+                .title("Payment API returning 500 errors")
+                .service("payments")
+                .severity(Incident.Severity.SEV2)
+                .status(Incident.Status.OPEN)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.project.incident.service.impl;
+
+import com.project.incident.dto.IncidentResponse;
+import com.project.incident.dto.PageResponse;
+import com.project.incident.exception.IncidentNotFoundException;
+import com.project.incident.exception.PageWindowTooLargeException;
+import com.project.incident.sharding.ShardAwareUuidGenerator;
+import com.project.incident.sharding.ShardContext;
+import com.project.incident.sharding.ShardRouter;
+import com.project.incident.sharding.ShardingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ShardedIncidentServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final IncidentServiceImpl incidentService = mock(IncidentServiceImpl.class);
+    private final ShardingProperties properties = properties();
+    private final ShardedIncidentService service =
+            new ShardedIncidentService(incidentService, new ShardRouter(properties), properties);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void unfilteredListingMergesShardWindows() {
+        when(incidentService.getIncidents(isNull(), isNull(), isNull(), isNull(), eq("createdAt"), eq("asc"), eq(0), eq(4)))
+                .thenReturn(page(incident(0), incident(2)), page(incident(1), incident(3)));
+
+        PageResponse<IncidentResponse> result =
+                service.getIncidents(null, null, null, null, "createdAt", "asc", 1, 2);
+
+        verify(incidentService, times(2)).getIncidents(any(), any(), any(), any(), any(), any(), eq(0), eq(4));
+        assertThat(result.getContent()).extracting(IncidentResponse::getCreatedAt)
+                .containsExactly(BASE.plusMinutes(2), BASE.plusMinutes(3));
+        assertThat(result.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    void deepUnfilteredPagesAreRejected() {
+        assertThatThrownBy(() -> service.getIncidents(null, null, null, null, "createdAt", "desc", 100_000, 100))
+                .isInstanceOf(PageWindowTooLargeException.class)
+                .hasMessageContaining("1000");
+        verifyNoInteractions(incidentService);
+    }
+
+    @Test
+    void serviceFilteredPagesAreNotCapped() {
+        when(incidentService.getIncidents(any(), eq("payments"), any(), any(), any(), any(), anyInt(), anyInt()))
+                .thenReturn(page());
+
+        service.getIncidents(null, "payments", null, null, "createdAt", "desc", 100_000, 100);
+
+        verify(incidentService).getIncidents(null, "payments", null, null, "createdAt", "desc", 100_000, 100);
+    }
+
+    @Test
+    void lookupByIdQueriesOnlyTheShardInTheId() {
+        UUID id = ShardAwareUuidGenerator.newId(1);
+        IncidentResponse incident = incident(0);
+        when(incidentService.getIncidentById(id)).thenAnswer(invocation -> {
+            assertThat(ShardContext.current()).isEqualTo(1);
+            return incident;
+        });
+
+        assertThat(service.getIncidentById(id)).isSameAs(incident);
+        verify(incidentService, times(1)).getIncidentById(id);
+    }
+
+    @Test
+    void idNamingNoConfiguredShardIsNotFoundWithoutQuerying() {
+        UUID id = ShardAwareUuidGenerator.newId(7);
+
+        assertThatThrownBy(() -> service.getIncidentById(id)).isInstanceOf(IncidentNotFoundException.class);
+        verifyNoInteractions(incidentService);
+    }
+
+    @Test
+    void missOnOwningShardIsNotRetriedElsewhere() {
+        UUID id = ShardAwareUuidGenerator.newId(0);
+        when(incidentService.getIncidentHistory(id)).thenThrow(new IncidentNotFoundException(id));
+
+        assertThatThrownBy(() -> service.getIncidentHistory(id)).isInstanceOf(IncidentNotFoundException.class);
+        verify(incidentService, times(1)).getIncidentHistory(id);
+    }
+
+    private static ShardingProperties properties() {
+        ShardingProperties properties = new ShardingProperties();
+        for (String name : List.of("shard-a", "shard-b")) {
+            ShardingProperties.Shard shard = new ShardingProperties.Shard();
+            shard.setName(name);
+            properties.getShards().add(shard);
+        }
+        properties.setMaxScatterWindow(1000);
+        return properties;
+    }
+
+    private static PageResponse<IncidentResponse> page(IncidentResponse... content) {
+        return PageResponse.<IncidentResponse>builder()
+                .content(List.of(content))
+                .totalElements(content.length)
+                .build();
+    }
+
+    private static IncidentResponse incident(int minutes) {
+        return IncidentResponse.builder()
+                .id(UUID.randomUUID())
+                .createdAt(BASE.plusMinutes(minutes))
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.incident.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardAwareUuidGeneratorTest {
+
+    @Test
+    void shardRoundTripsThroughTheId() {
+        for (int shard : new int[]{0, 1, 7, 128, ShardAwareUuidGenerator.MAX_SHARDS - 1}) {
+            UUID id = ShardAwareUuidGenerator.newId(shard);
+
+            assertThat(ShardAwareUuidGenerator.shardOf(id)).isEqualTo(shard);
+            assertThat(UUID.fromString(id.toString())).isEqualTo(id);
+        }
+    }
+
+    @Test
+    void withShardOnlyRewritesTheTopByte() {
+        UUID legacy = UUID.fromString("f3a1c2d4-5e6f-4a7b-8c9d-0e1f2a3b4c5d");
+
+        UUID stamped = ShardAwareUuidGenerator.withShard(legacy, 2);
+
+        assertThat(stamped).isEqualTo(UUID.fromString("02a1c2d4-5e6f-4a7b-8c9d-0e1f2a3b4c5d"));
+        assertThat(ShardAwareUuidGenerator.withShard(legacy, 2)).isEqualTo(stamped);
+        assertThat(ShardAwareUuidGenerator.withShard(stamped, 2)).isEqualTo(stamped);
+    }
+
+    @Test
+    void idsOnTheSameShardRemainRandom() {
+        assertThat(ShardAwareUuidGenerator.newId(5)).isNotEqualTo(ShardAwareUuidGenerator.newId(5));
+    }
+
+    @Test
+    void withoutShardGeneratesPlainRandomUuid() {
+        UUID id = ShardAwareUuidGenerator.newId(null);
+
+        assertThat(id.version()).isEqualTo(4);
+        assertThat(ShardAwareUuidGenerator.shardOf(id)).isBetween(0, ShardAwareUuidGenerator.MAX_SHARDS - 1);
+    }
+
+    @Test
+    void generatorUsesShardFromContext() {
+        ShardAwareUuidGenerator generator = new ShardAwareUuidGenerator();
+
+        UUID id = ShardContext.callOn(3, () -> (UUID) generator.generate(null, null));
+
+        assertThat(ShardAwareUuidGenerator.shardOf(id)).isEqualTo(3);
+        assertThat(ShardContext.current()).isNull();
+    }
+}
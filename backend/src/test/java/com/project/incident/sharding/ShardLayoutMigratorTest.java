@@ -0,0 +1,166 @@
+package com.project.incident.sharding;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers(disabledWithoutDocker = true)
+class ShardLayoutMigratorTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final String SCHEMA = """
+            CREATE SCHEMA IF NOT EXISTS incident;
+            CREATE TABLE IF NOT EXISTS incident.incidents (
+                id uuid PRIMARY KEY,
+                title varchar(255) NOT NULL,
+                service varchar(255) NOT NULL,
+                severity varchar(255) NOT NULL,
+                status varchar(255) NOT NULL,
+                owner varchar(255),
+                summary text,
+                created_at timestamp(6) NOT NULL,
+                updated_at timestamp(6) NOT NULL
+            );
+            CREATE TABLE IF NOT EXISTS incident.incident_transitions (
+                id uuid PRIMARY KEY,
+                incident_id uuid NOT NULL,
+                field varchar(255) NOT NULL,
+                old_value varchar(255),
+                new_value varchar(255),
+                changed_at timestamp(6) NOT NULL
+            );
+            TRUNCATE incident.incidents, incident.incident_transitions;
+            """;
+
+    private static JdbcTemplate shardA;
+    private static JdbcTemplate shardB;
+    private static ShardRoutingDataSource routingDataSource;
+
+    private ShardLayoutMigrator migrator;
+
+    @BeforeAll
+    static void createShards() {
+        DataSource a = dataSource(POSTGRES.getJdbcUrl());
+        new JdbcTemplate(a).execute("CREATE DATABASE shard_b");
+        DataSource b = dataSource(POSTGRES.getJdbcUrl().replace("/" + POSTGRES.getDatabaseName(), "/shard_b"));
+
+        shardA = new JdbcTemplate(a);
+        shardB = new JdbcTemplate(b);
+        routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(0, a, 1, b));
+        routingDataSource.setDefaultTargetDataSource(a);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @BeforeEach
+    void setUp() {
+        shardA.execute(SCHEMA);
+        shardB.execute(SCHEMA);
+
+        ShardingProperties properties = new ShardingProperties();
+        for (String name : List.of("shard-a", "shard-b")) {
+            ShardingProperties.Shard shard = new ShardingProperties.Shard();
+            shard.setName(name);
+            properties.getShards().add(shard);
+        }
+        properties.getServices().putAll(Map.of("search", "shard-a", "payments", "shard-b"));
+        migrator = new ShardLayoutMigrator(routingDataSource, new ShardRouter(properties), properties);
+    }
+
+    @Test
+    void correctlyPlacedIncidentsPassVerification() {
+        insertIncident(shardA, ShardAwareUuidGenerator.newId(0), "search");
+        insertIncident(shardB, ShardAwareUuidGenerator.newId(1), "Payments");
+
+        assertThatCode(migrator::verify).doesNotThrowAnyException();
+    }
+
+    @Test
+    void legacyIncidentsFailVerificationUntilMigrated() {
+        UUID wrongShard = UUID.fromString("ff1c2d3e-4f5a-4b6c-8d7e-9f0a1b2c3d4e");
+        UUID wrongStamp = UUID.fromString("7a1c2d3e-4f5a-4b6c-8d7e-9f0a1b2c3d4e");
+        UUID placed = ShardAwareUuidGenerator.newId(0);
+        insertIncident(shardA, wrongShard, "PAYMENTS");
+        insertTransition(shardA, wrongShard, "MITIGATED");
+        insertTransition(shardA, wrongShard, "RESOLVED");
+        insertIncident(shardA, wrongStamp, "search");
+        insertTransition(shardA, wrongStamp, "RESOLVED");
+        insertIncident(shardA, placed, "search");
+
+        assertThatThrownBy(migrator::verify)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2 on shard 0")
+                .hasMessageContaining("migrate-on-startup");
+
+        migrator.migrate();
+
+        UUID moved = ShardAwareUuidGenerator.withShard(wrongShard, 1);
+        UUID restamped = ShardAwareUuidGenerator.withShard(wrongStamp, 0);
+        assertThat(ids(shardA, "incidents")).containsExactlyInAnyOrder(restamped, placed);
+        assertThat(ids(shardB, "incidents")).containsExactly(moved);
+        assertThat(incidentIds(shardB)).containsExactly(moved, moved);
+        assertThat(incidentIds(shardA)).containsExactly(restamped);
+        assertThatCode(migrator::verify).doesNotThrowAnyException();
+    }
+
+    @Test
+    void interruptedMoveCanBeRerun() {
+        UUID legacy = UUID.fromString("ff1c2d3e-4f5a-4b6c-8d7e-9f0a1b2c3d4e");
+        UUID transition = UUID.randomUUID();
+        insertIncident(shardA, legacy, "payments");
+        insertTransition(shardA, transition, legacy, "RESOLVED");
+        migrator.migrate();
+
+        // Simulate a crash after the copy: the source rows are still there
+        insertIncident(shardA, legacy, "payments");
+        insertTransition(shardA, transition, legacy, "RESOLVED");
+        migrator.migrate();
+
+        assertThat(ids(shardA, "incidents")).isEmpty();
+        assertThat(ids(shardA, "incident_transitions")).isEmpty();
+        assertThat(ids(shardB, "incidents")).containsExactly(ShardAwareUuidGenerator.withShard(legacy, 1));
+        assertThat(ids(shardB, "incident_transitions")).containsExactly(ShardAwareUuidGenerator.withShard(transition, 1));
+    }
+
+    private static void insertIncident(JdbcTemplate jdbc, UUID id, String service) {
+        jdbc.update("INSERT INTO incident.incidents (id, title, service, severity, status, created_at, updated_at)"
+                + " VALUES (?, 'Checkout failing', ?, 'SEV2', 'OPEN', now(), now())", id, service);
+    }
+
+    private static void insertTransition(JdbcTemplate jdbc, UUID incidentId, String newValue) {
+        insertTransition(jdbc, UUID.randomUUID(), incidentId, newValue);
+    }
+
+    private static void insertTransition(JdbcTemplate jdbc, UUID id, UUID incidentId, String newValue) {
+        jdbc.update("INSERT INTO incident.incident_transitions (id, incident_id, field, new_value, changed_at)"
+                + " VALUES (?, ?, 'STATUS', ?, now())", id, incidentId, newValue);
+    }
+
+    private static List<UUID> ids(JdbcTemplate jdbc, String table) {
+        return jdbc.queryForList("SELECT id FROM incident." + table, UUID.class);
+    }
+
+    private static List<UUID> incidentIds(JdbcTemplate jdbc) {
+        return jdbc.queryForList("SELECT incident_id FROM incident.incident_transitions", UUID.class);
+    }
+
+    private static DataSource dataSource(String url) {
+        return new DriverManagerDataSource(url, POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
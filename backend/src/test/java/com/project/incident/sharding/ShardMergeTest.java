@@ -0,0 +1,120 @@
+package com.project.incident.sharding;
+
+import com.project.incident.dto.IncidentResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardMergeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void mergesUnevenShardsIntoOneSortedPage() {
+        List<Iterator<Integer>> shards = List.of(
+                List.of(1, 4, 5, 9, 10, 11).iterator(),
+                List.<Integer>of().iterator(),
+                List.of(2).iterator(),
+                List.of(3, 6, 7, 8).iterator()
+        );
+
+        assertThat(ShardMerge.merge(shards, Comparator.<Integer>naturalOrder(), 0, 20))
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+    }
+
+    @Test
+    void offsetSkipsAcrossShards() {
+        List<Iterator<Integer>> shards = List.of(
+                List.of(1, 4, 5, 9).iterator(),
+                List.of(2, 3, 6, 7, 8).iterator()
+        );
+
+        assertThat(ShardMerge.merge(shards, Comparator.<Integer>naturalOrder(), 3, 4))
+                .containsExactly(4, 5, 6, 7);
+    }
+
+    @Test
+    void offsetPastAllRowsReturnsEmptyPage() {
+        List<Iterator<Integer>> shards = List.of(List.of(1, 2).iterator(), List.of(3).iterator());
+
+        assertThat(ShardMerge.merge(shards, Comparator.<Integer>naturalOrder(), 5, 10)).isEmpty();
+    }
+
+    @Test
+    void nullOwnersSortLastAscendingAndFirstDescending() {
+        IncidentResponse alice = incident(1, "alice", 0);
+        IncidentResponse bob = incident(2, "bob", 1);
+        IncidentResponse nobody = incident(3, null, 2);
+        IncidentResponse nobodyElse = incident(4, null, 3);
+
+        List<IncidentResponse> ascending = ShardMerge.merge(
+                List.of(List.of(bob, nobody).iterator(), List.of(alice, nobodyElse).iterator()),
+                ShardMerge.comparator("owner", "asc"), 0, 10);
+        List<IncidentResponse> descending = ShardMerge.merge(
+                List.of(List.of(nobodyElse, alice).iterator(), List.of(nobody, bob).iterator()),
+                ShardMerge.comparator("owner", "desc"), 0, 10);
+
+        assertThat(ascending).containsExactly(alice, bob, nobody, nobodyElse);
+        assertThat(descending).containsExactly(nobodyElse, nobody, bob, alice);
+    }
+
+    @Test
+    void equalSortKeysAreOrderedById() {
+        IncidentResponse first = incident(1, "carol", 0);
+        IncidentResponse second = incident(2, "carol", 0);
+        IncidentResponse third = incident(3, "carol", 0);
+
+        List<IncidentResponse> merged = ShardMerge.merge(
+                List.of(List.of(second).iterator(), List.of(first, third).iterator()),
+                ShardMerge.comparator("owner", "asc"), 0, 10);
+
+        assertThat(merged).containsExactly(first, second, third);
+    }
+
+    @Test
+    void defaultsToCreatedAt() {
+        IncidentResponse older = incident(2, "zed", 0);
+        IncidentResponse newer = incident(1, "amy", 5);
+
+        List<IncidentResponse> sorted = new ArrayList<>(List.of(older, newer));
+        sorted.sort(ShardMerge.comparator(null, "desc"));
+
+        assertThat(sorted).containsExactly(newer, older);
+    }
+
+    @Test
+    void textIsComparedByCodePoint() {
+        List<String> values = new ArrayList<>(Arrays.asList("b", "B", "a-b", "ab", "a", "\uD83D\uDE00", "\uFFFD"));
+        values.sort(ShardMerge::compareCodePoints);
+
+        // Upper case before lower case and punctuation by code point, unlike a locale collation;
+        // a supplementary character sorts after every BMP character
+        assertThat(values).containsExactly("B", "a", "a-b", "ab", "b", "\uFFFD", "\uD83D\uDE00");
+    }
+
+    @Test
+    void uuidsAreComparedAsUnsignedBytes() {
+        UUID low = UUID.fromString("00000000-0000-4000-8000-000000000000");
+        UUID high = UUID.fromString("ff000000-0000-4000-8000-000000000000");
+
+        assertThat(ShardMerge.compareUuids(low, high)).isNegative();
+        assertThat(ShardMerge.compareUuids(high, low)).isPositive();
+        assertThat(ShardMerge.compareUuids(low, low)).isZero();
+    }
+
+    private static IncidentResponse incident(long id, String owner, int minutes) {
+        return IncidentResponse.builder()
+                .id(new UUID(0, id))
+                .owner(owner)
+                .createdAt(BASE.plusMinutes(minutes))
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.incident.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardRouterTest {
+
+    @Test
+    void mappedServicesGoToTheirNamedShard() {
+        ShardRouter router = new ShardRouter(properties(Map.of("payments", "shard-b", "search", "shard-a")));
+
+        assertThat(router.getShardCount()).isEqualTo(3);
+        assertThat(router.shardForService("payments")).isEqualTo(1);
+        assertThat(router.shardForService("search")).isZero();
+    }
+
+    @Test
+    void serviceNamesAreMatchedCaseInsensitively() {
+        ShardRouter router = new ShardRouter(properties(Map.of("Payments", "shard-c")));
+
+        assertThat(router.shardForService("payments")).isEqualTo(2);
+        assertThat(router.shardForService("PAYMENTS")).isEqualTo(2);
+        assertThat(router.shardForService("checkout")).isEqualTo(router.shardForService("Checkout"));
+    }
+
+    @Test
+    void unmappedServicesAreHashedAcrossShards() {
+        ShardRouter router = new ShardRouter(properties(Map.of()));
+
+        for (String service : List.of("checkout", "auth", "notifications", "", "a-very-long-service-name")) {
+            int shard = router.shardForService(service);
+            assertThat(shard).isEqualTo(Math.floorMod(service.hashCode(), 3)).isBetween(0, 2);
+            assertThat(router.shardForService(service)).isEqualTo(shard);
+        }
+    }
+
+    @Test
+    void mappingToUnknownShardIsRejected() {
+        assertThatThrownBy(() -> new ShardRouter(properties(Map.of("payments", "shard-z"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("shard-z");
+    }
+
+    @Test
+    void emptyShardListIsRejected() {
+        assertThatThrownBy(() -> new ShardRouter(new ShardingProperties()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void idsResolveToTheShardStampedInThem() {
+        ShardRouter router = new ShardRouter(properties(Map.of()));
+
+        assertThat(router.shardForId(ShardAwareUuidGenerator.newId(0))).isZero();
+        assertThat(router.shardForId(ShardAwareUuidGenerator.newId(2))).isEqualTo(2);
+    }
+
+    @Test
+    void idsOutsideTheConfiguredShardsHaveNoShard() {
+        ShardRouter router = new ShardRouter(properties(Map.of()));
+
+        assertThat(router.shardForId(ShardAwareUuidGenerator.newId(3))).isEqualTo(-1);
+        assertThat(router.shardForId(UUID.fromString("ff000000-0000-4000-8000-000000000000"))).isEqualTo(-1);
+    }
+
+    private static ShardingProperties properties(Map<String, String> services) {
+        ShardingProperties properties = new ShardingProperties();
+        for (String name : List.of("shard-a", "shard-b", "shard-c")) {
+            ShardingProperties.Shard shard = new ShardingProperties.Shard();
+            shard.setName(name);
+            properties.getShards().add(shard);
+        }
+        properties.getServices().putAll(services);
+        return properties;
+    }
+}
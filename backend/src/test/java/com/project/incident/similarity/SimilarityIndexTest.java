@@ -0,0 +1,139 @@
+package com.project.incident.similarity;
+
+import com.project.incident.model.Incident;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimilarityIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final String TITLE = "Payment API returning 500 errors";
+    private static final String SUMMARY = "Checkout requests fail with HTTP 500 from the payment gateway after deploy";
+
+    @Test
+    void nearDuplicateRanksAboveUnrelatedIncident() {
+        SimilarityIndex index = new SimilarityIndex(100);
+        Incident duplicate = incident("Payment API returning 500 errors",
+                "Checkout requests fail with HTTP 500 from the payment gateway after a deploy", 0);
+        Incident unrelated = incident("Search index lagging behind",
+                "Reindex job for product catalogue running hours late", 1);
+        Incident source = incident(TITLE, SUMMARY, 2);
+        List.of(duplicate, unrelated, source).forEach(index::add);
+
+        List<SimilarityIndex.Match> matches = index.findSimilar(source.getId(), 5).orElseThrow();
+
+        assertThat(matches).isNotEmpty();
+        assertThat(matches.get(0).entry().id()).isEqualTo(duplicate.getId());
+        assertThat(matches.get(0).similarity()).isGreaterThan(0.7);
+        matches.stream()
+                .filter(match -> match.entry().id().equals(unrelated.getId()))
+                .forEach(match -> assertThat(match.similarity()).isLessThan(matches.get(0).similarity()));
+    }
+
+    @Test
+    void sourceIncidentIsExcluded() {
+        SimilarityIndex index = new SimilarityIndex(100);
+        Incident earlier = incident(TITLE, SUMMARY, 0);
+        Incident source = incident(TITLE, SUMMARY, 1);
+        index.add(earlier);
+        index.add(source);
+
+        assertThat(index.findSimilar(source.getId(), 5).orElseThrow())
+                .extracting(match -> match.entry().id())
+                .containsExactly(earlier.getId());
+        assertThat(index.findSimilar(source, 5))
+                .extracting(match -> match.entry().id())
+                .containsExactly(earlier.getId());
+    }
+
+    @Test
+    void onlyPriorIncidentsAreReturned() {
+        SimilarityIndex index = new SimilarityIndex(100);
+        Incident earlier = incident(TITLE, SUMMARY, 0);
+        Incident source = incident(TITLE, SUMMARY, 1);
+        Incident later = incident(TITLE, SUMMARY, 2);
+        List.of(earlier, source, later).forEach(index::add);
+
+        assertThat(index.findSimilar(source.getId(), 5).orElseThrow())
+                .extracting(match -> match.entry().id())
+                .containsExactly(earlier.getId());
+        assertThat(index.findSimilar(earlier.getId(), 5).orElseThrow()).isEmpty();
+    }
+
+    @Test
+    void unindexedIncidentIsNotFoundById() {
+        SimilarityIndex index = new SimilarityIndex(100);
+
+        assertThat(index.findSimilar(UUID.randomUUID(), 5)).isEmpty();
+    }
+
+    @Test
+    void oldestIncidentIsEvictedAtMaxEntries() {
+        SimilarityIndex index = new SimilarityIndex(2);
+        Incident oldest = incident(TITLE, SUMMARY, 1);
+        Incident middle = incident(TITLE, SUMMARY, 2);
+        Incident newest = incident(TITLE, SUMMARY, 3);
+        List.of(oldest, middle, newest).forEach(index::add);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.findSimilar(oldest.getId(), 5)).isEmpty();
+        assertThat(index.findSimilar(newest.getId(), 5).orElseThrow())
+                .extracting(match -> match.entry().id())
+                .containsExactly(middle.getId());
+
+        // Older than everything indexed, so it is not worth evicting a newer incident for
+        Incident older = incident(TITLE, SUMMARY, 0);
+        index.add(older);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.findSimilar(older.getId(), 5)).isEmpty();
+    }
+
+    @Test
+    void staleUpdateDoesNotReplaceNewerVersion() {
+        SimilarityIndex index = new SimilarityIndex(100);
+        UUID id = UUID.randomUUID();
+        Incident current = incident(id, "Database failover", "Primary database failed over to replica", 0, 10);
+        Incident stale = incident(id, "Login page slow", "Authentication service latency above SLO", 0, 5);
+        Incident source = incident("Database failover", "Primary database failed over to replica", 1);
+
+        index.add(current);
+        index.add(stale);
+        index.add(source);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.findSimilar(source.getId(), 5).orElseThrow())
+                .extracting(match -> match.entry().title())
+                .containsExactly("Database failover");
+
+        Incident newer = incident(id, "Login page slow", "Authentication service latency above SLO", 0, 20);
+        index.add(newer);
+
+        assertThat(index.findSimilar(source.getId(), 5).orElseThrow())
+                .extracting(match -> match.entry().title())
+                .doesNotContain("Database failover");
+    }
+
+    private static Incident incident(String title, String summary, int createdMinutes) {
+        return incident(UUID.randomUUID(), title, summary, createdMinutes, createdMinutes);
+    }
+
+    private static Incident incident(UUID id, String title, String summary, int createdMinutes, int updatedMinutes) {
+        return Incident.builder()
+                .id(id)
+                .title(title)
+                .service("payments")
+                .severity(Incident.Severity.SEV2)
+                .status(Incident.Status.OPEN)
+                .summary(summary)
+                .createdAt(BASE.plusMinutes(createdMinutes))
+                .updatedAt(BASE.plusMinutes(updatedMinutes))
+                .build();
+    }
+}
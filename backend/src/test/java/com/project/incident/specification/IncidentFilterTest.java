@@ -0,0 +1,64 @@
+package com.project.incident.specification;
+
+import com.project.incident.model.Incident;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IncidentFilterTest {
+
+    @Test
+    void blankParametersProduceEmptyShape() {
+        IncidentFilter filter = IncidentFilter.of("  ", "", List.of(), null);
+
+        assertThat(filter.getShape()).isZero();
+        assertThat(filter.getSearchPattern()).isNull();
+        assertThat(filter.getService()).isNull();
+        assertThat(filter.getSeverities()).isNull();
+        assertThat(filter.getStatuses()).isNull();
+    }
+
+    @Test
+    void textParametersAreLowerCasedOnce() {
+        IncidentFilter filter = IncidentFilter.of("TimeOut", "Payments", null, null);
+
+        assertThat(filter.getSearchPattern()).isEqualTo("%timeout%");
+        assertThat(filter.getService()).isEqualTo("payments");
+        assertThat(filter.getShape()).isEqualTo(IncidentFilter.SEARCH | IncidentFilter.SERVICE);
+    }
+
+    @Test
+    void enumSelectionsAreDeduplicated() {
+        IncidentFilter filter = IncidentFilter.of(null, null,
+                List.of(Incident.Severity.SEV2, Incident.Severity.SEV1, Incident.Severity.SEV2),
+                List.of(Incident.Status.OPEN));
+
+        assertThat(filter.getSeverities()).containsExactly(Incident.Severity.SEV1, Incident.Severity.SEV2);
+        assertThat(filter.getStatuses()).containsExactly(Incident.Status.OPEN);
+        assertThat(filter.has(IncidentFilter.SEVERITY)).isTrue();
+        assertThat(filter.has(IncidentFilter.STATUS)).isTrue();
+        assertThat(filter.has(IncidentFilter.SEARCH)).isFalse();
+    }
+
+    @Test
+    void fullEnumSelectionIsDropped() {
+        IncidentFilter filter = IncidentFilter.of(null, null,
+                List.copyOf(EnumSet.allOf(Incident.Severity.class)),
+                List.copyOf(EnumSet.allOf(Incident.Status.class)));
+
+        assertThat(filter.getSeverities()).isNull();
+        assertThat(filter.getStatuses()).isNull();
+        assertThat(filter.getShape()).isZero();
+    }
+
+    @Test
+    void everyFilterSetsItsOwnBit() {
+        IncidentFilter filter = IncidentFilter.of("x", "y",
+                List.of(Incident.Severity.SEV1), List.of(Incident.Status.RESOLVED));
+
+        assertThat(filter.getShape()).isEqualTo(IncidentFilter.SHAPE_COUNT - 1);
+    }
+}